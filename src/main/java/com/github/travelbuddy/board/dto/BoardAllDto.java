@@ -19,5 +19,6 @@ public class BoardAllDto {
     private String startAt;
     private String endAt;
     private String representativeImage;
+    private String representativeImagePlaceholder;
     private Long likeCount;
 }
@@ -22,6 +22,8 @@ public class BoardCreateDto {
     private String content;
     private BoardEntity.Category category;
     private List<MultipartFile> images;
+    // 수정 시 유지할 기존 이미지 URL, 값이 있으면 images 는 추가분으로만 취급하고 목록에 없는 기존 이미지만 삭제
+    private List<String> keepImages;
     private LocalDateTime createdAt;
     private Integer ageMin;
     private Integer ageMax;
@@ -0,0 +1,69 @@
+package com.github.travelbuddy.board.dto;
+
+import com.github.travelbuddy.board.enums.BoardSortType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+
+// 마지막으로 내려준 게시물의 (정렬 키, id)를 담는 불투명 커서
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardCursor {
+    private static final String DELIMITER = "|";
+
+    private final BoardSortType sortType;
+    private final Object sortValue;
+    private final Integer id;
+
+    public static BoardCursor of(BoardSortType sortType, Object sortValue, Integer id) {
+        return new BoardCursor(sortType, sortValue, id);
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + serialize(sortValue) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor, BoardSortType expectedSortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            BoardSortType sortType = BoardSortType.valueOf(parts[0]);
+            if (sortType != expectedSortType) {
+                throw new IllegalArgumentException("정렬 기준이 커서와 다릅니다.");
+            }
+            return new BoardCursor(sortType, deserialize(sortType, parts[1]), Integer.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+
+    // null 키(경로 없는 게시물의 시작일)는 빈 문자열로 인코딩한다
+    private static String serialize(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Date date) {
+            return String.valueOf(date.getTime());
+        }
+        return String.valueOf(value);
+    }
+
+    private static Object deserialize(BoardSortType sortType, String value) {
+        if (value.isEmpty() && sortType.isNullable()) {
+            return null;
+        }
+        return switch (sortType) {
+            case CREATED_AT -> LocalDateTime.parse(value);
+            case LIKES, TRENDING -> Long.valueOf(value);
+            case START_AT -> new Date(Long.parseLong(value));
+        };
+    }
+}
@@ -29,8 +29,23 @@ public class BoardDetailDto {
         private Integer authorID;
         private String author;
         private String userProfile;
+        private String userProfileThumbnail;
+        private String userProfilePlaceholder;
         private Long likeCount;
+        // 원본 URL, 수정 요청의 keepImages 도 이 값으로 보낸다
         private List<String> images;
+        // images 와 같은 순서의 화면 표시용 변환본
+        private List<ImageDto> imageVariants;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ImageDto {
+        private String url;
+        // 상세 화면용 중간 크기, 없으면 원본
+        private String mediumUrl;
+        private String placeholder;
     }
 
     @Data
@@ -0,0 +1,29 @@
+package com.github.travelbuddy.board.dto;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.enums.BoardSortType;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@Builder
+public class BoardListCondition {
+    private Scope scope;
+    private Integer userId;
+    private BoardEntity.Category category;
+    private Date startDate;
+    private Date endDate;
+    // 구간 색인에서 찾은 기간 겹침 후보, null 이면 SQL 기간 조건으로 거른다
+    private List<Integer> periodCandidateIds;
+    private BoardSortType sortType;
+    private Sort.Direction direction;
+    private BoardCursor cursor;
+
+    public enum Scope {
+        ALL, AUTHORED, LIKED, PARTICIPATED
+    }
+}
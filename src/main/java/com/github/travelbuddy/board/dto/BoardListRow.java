@@ -0,0 +1,25 @@
+package com.github.travelbuddy.board.dto;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+// 게시물 목록 전용 읽기 프로젝션, 필드 순서는 BoardRepositoryImpl 의 생성자 표현식과 일치해야 한다
+@Getter
+@AllArgsConstructor
+public class BoardListRow {
+    private Integer id;
+    private BoardEntity.Category category;
+    private String title;
+    private String summary;
+    private String author;
+    private Date startAt;
+    private Date endAt;
+    private LocalDateTime createdAt;
+    private Long likeCount;
+    private String representativeImage;
+    private String representativeImagePlaceholder;
+}
@@ -0,0 +1,17 @@
+package com.github.travelbuddy.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BoardPageResponseDto<T> {
+    private String message;
+    private List<T> data;
+    private String nextCursor;
+    private boolean hasNext;
+}
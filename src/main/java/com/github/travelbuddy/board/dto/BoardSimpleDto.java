@@ -13,6 +13,7 @@ public class BoardSimpleDto {
     private String title;
     private String summary;
     private String representativeImage;
+    private String representativeImagePlaceholder;
     private BoardEntity.Category category;
     private String createdAt;
 }
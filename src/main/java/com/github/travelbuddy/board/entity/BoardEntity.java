@@ -5,6 +5,7 @@ import com.github.travelbuddy.routes.entity.RouteEntity;
 import com.github.travelbuddy.users.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,7 +16,13 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "boards")
+// 목록 키셋 페이지((정렬 키, id) 비교 + 같은 순서의 ORDER BY)를 받쳐 주는 인덱스
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_boards_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_boards_category_created_at_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_boards_category_like_count_id", columnList = "category, like_count, id")
+})
 @ToString
 public class BoardEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -45,7 +52,12 @@ public class BoardEntity {
     @Column(name = "created_at",nullable = false)
     private LocalDateTime createdAt;
 
+    // 좋아요 수 비정규화 컬럼, 증감은 BoardRepository의 원자적 UPDATE 쿼리로만 수행
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long likeCount;
+
     @OneToMany(mappedBy = "board")
+    @BatchSize(size = 100)
     private List<PostImageEntity> postImages;
 
     public enum Category {
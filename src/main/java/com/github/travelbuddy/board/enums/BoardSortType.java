@@ -0,0 +1,46 @@
+package com.github.travelbuddy.board.enums;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public enum BoardSortType {
+    CREATED_AT("b.createdAt", false),
+    LIKES("b.likeCount", false),
+    // 경로가 없는 게시물은 시작일이 null 이고, 방향과 상관없이 맨 뒤에 온다
+    START_AT("r.startAt", true),
+    // 인기순은 DB 가 아닌 BoardTrendingIndex 상위 K 목록으로 정렬, 커서 값은 목록 내 위치
+    TRENDING(null, false);
+
+    private final String expression;
+    private final boolean nullable;
+
+    BoardSortType(String expression, boolean nullable) {
+        this.expression = expression;
+        this.nullable = nullable;
+    }
+
+    // 키셋 조건과 ORDER BY 에 들어가는 JPQL 경로
+    public String getExpression() {
+        return expression;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public static BoardSortType from(String sortBy) {
+        if (sortBy == null || sortBy.equals("createdAt")) {
+            return CREATED_AT;
+        }
+        if (sortBy.equals("likes") || sortBy.equals("likeCount")) {
+            return LIKES;
+        }
+        if (sortBy.equals("startAt") || sortBy.equals("date")) {
+            return START_AT;
+        }
+        if (sortBy.equals("trending")) {
+            return TRENDING;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 기준입니다: " + sortBy);
+    }
+}
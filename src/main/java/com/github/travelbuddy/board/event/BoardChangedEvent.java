@@ -0,0 +1,27 @@
+package com.github.travelbuddy.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 게시물 목록/상세에 영향을 주는 변경이 생겼을 때 발행, 캐시/스냅샷 갱신은 커밋 이후 리스너에서 처리
+@Getter
+@AllArgsConstructor
+@ToString
+public class BoardChangedEvent {
+    private final Integer boardId;
+    private final Type type;
+    // 좋아요/댓글/참여 취소 이벤트에서 취소된 원래 행동이 일어난 시각, 인기 점수에서 그때 더한 만큼만 빼는 데 쓴다
+    private final LocalDateTime originalOccurredAt;
+
+    public BoardChangedEvent(Integer boardId, Type type) {
+        this(boardId, type, null);
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, LIKE_ADDED, LIKE_REMOVED, ROUTE_UPDATED,
+        PARTICIPANT_JOINED, PARTICIPANT_LEFT, COMMENT_ADDED, COMMENT_REMOVED
+    }
+}
@@ -2,6 +2,7 @@ package com.github.travelbuddy.board.mapper;
 
 import com.github.travelbuddy.board.dto.BoardAllDto;
 import com.github.travelbuddy.board.dto.BoardDetailDto;
+import com.github.travelbuddy.board.dto.BoardListRow;
 import com.github.travelbuddy.board.dto.BoardMainSimpleDto;
 import com.github.travelbuddy.board.dto.BoardSimpleDto;
 import com.github.travelbuddy.board.entity.BoardEntity;
@@ -23,17 +24,17 @@ public interface BoardMapper {
 
     BoardMapper INSTANCE = Mappers.getMapper(BoardMapper.class);
 
-    @Mapping(source = "user.name", target = "author")
-    @Mapping(source = "route.startAt", target = "startAt", dateFormat = "yyyy-MM-dd")
-    @Mapping(source = "route.endAt", target = "endAt", dateFormat = "yyyy-MM-dd")
-    @Mapping(source = "postImages", target = "representativeImage", qualifiedByName = "firstImageUrl")
-    BoardAllDto boardEntityToBoardAllDto(BoardEntity boardEntity);
+    @Mapping(source = "startAt", target = "startAt", dateFormat = "yyyy-MM-dd")
+    @Mapping(source = "endAt", target = "endAt", dateFormat = "yyyy-MM-dd")
+    BoardAllDto boardListRowToBoardAllDto(BoardListRow row);
 
     @Mapping(source = "user.id", target = "authorID")
     @Mapping(source = "user.name", target = "author")
     @Mapping(source = "user.profilePictureUrl", target = "userProfile")
+    @Mapping(target = "userProfileThumbnail", expression = "java(boardEntity.getUser() == null ? null : boardEntity.getUser().profileThumbnailOrPicture())")
+    @Mapping(source = "user.profilePlaceholder", target = "userProfilePlaceholder")
     @Mapping(source = "postImages", target = "images", qualifiedByName = "mapPostImagesToUrls")
-    @Mapping(target = "likeCount", ignore = true)
+    @Mapping(source = "postImages", target = "imageVariants", qualifiedByName = "mapPostImagesToVariants")
     BoardDetailDto.BoardDto toBoardDto(BoardEntity boardEntity);
 
     @Mapping(source = "routeDays", target = "routeDetails", qualifiedByName = "mapRouteDaysToDetails")
@@ -41,16 +42,23 @@ public interface BoardMapper {
 
     BoardDetailDto.TripDto toTripDto(TripEntity tripEntity);
 
-    @Named("firstImageUrl")
-    default String mapFirstImageUrl(List<PostImageEntity> postImages) {
-        return postImages != null && !postImages.isEmpty() ? postImages.get(0).getUrl() : null;
-    }
-
     @Named("mapPostImagesToUrls")
     default List<String> mapPostImagesToUrls(List<PostImageEntity> postImages) {
         return postImages != null ? postImages.stream().map(PostImageEntity::getUrl).collect(Collectors.toList()) : Collections.emptyList();
     }
 
+    @Named("mapPostImagesToVariants")
+    default List<BoardDetailDto.ImageDto> mapPostImagesToVariants(List<PostImageEntity> postImages) {
+        if (postImages == null) {
+            return Collections.emptyList();
+        }
+        return postImages.stream()
+                .map(image -> new BoardDetailDto.ImageDto(image.getUrl(),
+                        image.getMediumUrl() != null ? image.getMediumUrl() : image.getUrl(),
+                        image.getPlaceholder()))
+                .collect(Collectors.toList());
+    }
+
     @Named("mapRouteDaysToDetails")
     default Map<String, List<Map<String, String>>> mapRouteDaysToDetails(List<RouteDayEntity> routeDays) {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
@@ -70,22 +78,13 @@ public interface BoardMapper {
                 ));
     }
 
-    @Mapping(target = "createdAt", expression = "java(formatDateTime(board.getCreatedAt()))")
-    @Mapping(target = "representativeImage", source = "representativeImage")
-    BoardSimpleDto boardEntityToBoardSimpleDto(BoardEntity board, String representativeImage);
+    @Mapping(target = "createdAt", expression = "java(formatDateTime(row.getCreatedAt()))")
+    BoardSimpleDto boardListRowToBoardSimpleDto(BoardListRow row);
 
     default String formatDateTime(LocalDateTime dateTime) {
         return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
     }
 
-    @Mapping(target = "createdAt", expression = "java(formatDateTime(board.getCreatedAt()))")
-    @Mapping(target = "representativeImage", expression = "java(getRepresentativeImage(board))")
-    @Mapping(target = "author", source = "board.user.name")
-    @Mapping(target = "likeCount", ignore = true)
-    BoardMainSimpleDto boardEntityToBoardMainSimpleDto(BoardEntity board);
-
-
-    default String getRepresentativeImage(BoardEntity board) {
-        return board.getPostImages().isEmpty() ? null : board.getPostImages().get(0).getUrl();
-    }
+    @Mapping(target = "createdAt", expression = "java(formatDateTime(row.getCreatedAt()))")
+    BoardMainSimpleDto boardListRowToBoardMainSimpleDto(BoardListRow row);
 }
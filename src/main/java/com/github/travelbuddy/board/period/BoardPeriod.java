@@ -0,0 +1,17 @@
+package com.github.travelbuddy.board.period;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 게시물별 여행 기간 프로젝션, BoardRepository 생성자 표현식과 필드 순서가 같아야 한다
+@Getter
+@AllArgsConstructor
+public class BoardPeriod {
+    private Integer boardId;
+    private BoardEntity.Category category;
+    private Date startAt;
+    private Date endAt;
+}
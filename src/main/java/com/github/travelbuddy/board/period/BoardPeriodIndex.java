@@ -0,0 +1,84 @@
+package com.github.travelbuddy.board.period;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 카테고리별 구간 트리 + 전체 트리, 여행 기간이 [startDate, endDate] 와 겹치는 게시물 id 후보를 메모리에서 찾는다
+@Component
+public class BoardPeriodIndex {
+    private final Map<BoardEntity.Category, IntervalTreap> byCategory = new EnumMap<>(BoardEntity.Category.class);
+    private final IntervalTreap all = new IntervalTreap();
+    private final Map<Integer, BoardPeriod> periods = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxCandidates;
+    private volatile boolean ready;
+
+    public BoardPeriodIndex(@Value("${board.period-index.max-candidates:2000}") int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+        for (BoardEntity.Category category : BoardEntity.Category.values()) {
+            byCategory.put(category, new IntervalTreap());
+        }
+    }
+
+    public void put(BoardPeriod period) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(period.getBoardId());
+            if (period.getStartAt() == null || period.getEndAt() == null) {
+                return;
+            }
+            periods.put(period.getBoardId(), period);
+            long start = period.getStartAt().getTime();
+            long end = period.getEndAt().getTime();
+            all.insert(period.getBoardId(), start, end);
+            byCategory.get(period.getCategory()).insert(period.getBoardId(), start, end);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer boardId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    // 후보가 너무 많으면 IN 절보다 DB 범위 조건이 낫기 때문에 비어 있는 Optional 을 돌려 SQL 필터로 넘긴다
+    public Optional<List<Integer>> findOverlapping(BoardEntity.Category category, Date startDate, Date endDate) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        List<Integer> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            IntervalTreap tree = category == null ? all : byCategory.get(category);
+            tree.collectOverlapping(startDate.getTime(), endDate.getTime(), candidates, maxCandidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates.size() > maxCandidates ? Optional.empty() : Optional.of(candidates);
+    }
+
+    private void removeInternal(Integer boardId) {
+        BoardPeriod existing = periods.remove(boardId);
+        if (existing == null) {
+            return;
+        }
+        long start = existing.getStartAt().getTime();
+        all.remove(boardId, start);
+        byCategory.get(existing.getCategory()).remove(boardId, start);
+    }
+}
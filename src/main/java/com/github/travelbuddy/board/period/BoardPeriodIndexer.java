@@ -0,0 +1,53 @@
+package com.github.travelbuddy.board.period;
+
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import com.github.travelbuddy.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 기동 시 전체 여행 기간을 적재하고, 게시물/경로 변경 이벤트로 해당 게시물 구간만 교체
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardPeriodIndexer {
+    private final BoardRepository boardRepository;
+    private final BoardPeriodIndex boardPeriodIndex;
+
+    @Value("${board.period-index.bulk-size:5000}")
+    private int bulkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexAll() {
+        int afterId = 0;
+        int count = 0;
+        while (true) {
+            List<BoardPeriod> periods = boardRepository.findPeriodsAfter(afterId, PageRequest.of(0, bulkSize));
+            if (periods.isEmpty()) {
+                break;
+            }
+            periods.forEach(boardPeriodIndex::put);
+            count += periods.size();
+            afterId = periods.get(periods.size() - 1).getBoardId();
+        }
+        boardPeriodIndex.markReady();
+        log.info("여행 기간 색인 완료: {}건", count);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> boardPeriodIndex.remove(event.getBoardId());
+            case CREATED, UPDATED, ROUTE_UPDATED -> boardRepository.findPeriodById(event.getBoardId())
+                    .ifPresentOrElse(boardPeriodIndex::put, () -> boardPeriodIndex.remove(event.getBoardId()));
+            default -> { }
+        }
+    }
+}
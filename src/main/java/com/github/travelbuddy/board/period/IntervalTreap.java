@@ -0,0 +1,146 @@
+package com.github.travelbuddy.board.period;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 시작 시각 기준 treap 에 서브트리 최대 종료 시각을 덧붙인 구간 트리
+// 삽입/삭제 O(log n), 겹치는 구간 조회 O(log n + k)
+class IntervalTreap {
+    private Node root;
+    private int size;
+
+    void insert(int id, long start, long end) {
+        root = insert(root, new Node(id, start, end));
+        size++;
+    }
+
+    void remove(int id, long start) {
+        root = remove(root, id, start);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // [from, to] 와 겹치는 구간의 id 를 limit 개 초과까지만 모은다, 초과 여부는 호출 측에서 크기로 판단
+    void collectOverlapping(long from, long to, List<Integer> result, int limit) {
+        collect(root, from, to, result, limit);
+    }
+
+    private void collect(Node node, long from, long to, List<Integer> result, int limit) {
+        if (node == null || node.maxEnd < from || result.size() > limit) {
+            return;
+        }
+        collect(node.left, from, to, result, limit);
+        if (node.start > to || result.size() > limit) {
+            return;
+        }
+        if (node.end >= from) {
+            result.add(node.id);
+        }
+        collect(node.right, from, to, result, limit);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node remove(Node node, int id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int compare(long start, int id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Integer.compare(id, node.id);
+    }
+
+    private static final class Node {
+        private final int id;
+        private final long start;
+        private final long end;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(int id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            maxEnd = end;
+            if (left != null && left.maxEnd > maxEnd) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd > maxEnd) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -3,33 +3,43 @@ package com.github.travelbuddy.board.repository;
 import com.github.travelbuddy.board.dto.BoardAllDto;
 import com.github.travelbuddy.board.dto.BoardSimpleDto;
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.period.BoardPeriod;
+import com.github.travelbuddy.board.search.BoardSearchSource;
 import com.github.travelbuddy.routes.entity.RouteDayEntity;
 import com.github.travelbuddy.routes.entity.RouteEntity;
 import com.github.travelbuddy.trip.entity.TripEntity;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface BoardRepository extends JpaRepository<BoardEntity, Integer> {
-
-    @Query("SELECT b " +
-            "FROM BoardEntity b " +
-            "LEFT JOIN FETCH b.user u " +
-            "LEFT JOIN FETCH b.route r " +
-            "LEFT JOIN FETCH b.postImages pi " +
-            "WHERE (:category IS NULL OR b.category = :category) " +
-            "AND (:startDate IS NULL OR :endDate IS NULL OR (r.startAt <= :endDate AND r.endAt >= :startDate))")
-    List<BoardEntity> findAllWithRepresentativeImageAndDateRange(@Param("category") BoardEntity.Category category, @Param("startDate") Date startDate, @Param("endDate") Date endDate, Sort sort);
+public interface BoardRepository extends JpaRepository<BoardEntity, Integer>, BoardRepositoryCustom {
 
     @Query("SELECT COUNT(l) FROM LikesEntity l WHERE l.board.id = :boardId")
     Long countLikesByBoardId(@Param("boardId") Integer boardId);
 
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.likeCount = b.likeCount + 1 WHERE b.id = :boardId")
+    int incrementLikeCount(@Param("boardId") Integer boardId);
+
+    @Modifying
+    @Query("UPDATE BoardEntity b SET b.likeCount = b.likeCount - 1 WHERE b.id = :boardId AND b.likeCount > 0")
+    int decrementLikeCount(@Param("boardId") Integer boardId);
+
+    @Modifying
+    @Query("UPDATE BoardEntity b " +
+            "SET b.likeCount = (SELECT COUNT(l) FROM LikesEntity l WHERE l.board.id = b.id) " +
+            "WHERE b.likeCount <> (SELECT COUNT(l2) FROM LikesEntity l2 WHERE l2.board.id = b.id)")
+    int reconcileLikeCounts();
+
 
     @Query("SELECT b FROM BoardEntity b " +
             "LEFT JOIN FETCH b.user u " +
@@ -52,55 +62,33 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Integer> {
             "WHERE t.board.id = :postId")
     TripEntity findTripDetailsByPostId(@Param("postId") Integer postId);
 
-    @Query("SELECT b " +
-            "FROM BoardEntity b " +
-            "LEFT JOIN FETCH b.postImages pi " +
-            "WHERE b.user.id = :userId AND b.category = :category")
-    List<BoardEntity> findBoardsByUserIdAndCategory(@Param("userId") Integer userId, @Param("category") BoardEntity.Category category);
+    @Query("SELECT new com.github.travelbuddy.board.search.BoardSearchSource(b.id, b.category, b.title, b.summary, b.content, b.route.id) " +
+            "FROM BoardEntity b WHERE b.id > :afterId ORDER BY b.id")
+    List<BoardSearchSource> findSearchSourcesAfter(@Param("afterId") Integer afterId, Pageable pageable);
 
-    @Query("SELECT b " +
-            "FROM BoardEntity b " +
-            "LEFT JOIN FETCH b.user u " +
-            "LEFT JOIN FETCH b.route r " +
-            "LEFT JOIN FETCH b.postImages pi " +
-            "LEFT JOIN LikesEntity l ON b.id = l.board.id " +
-            "WHERE l.user.id = :userId " +
-            "AND (:category IS NULL OR b.category = :category) " +
-            "AND (:startDate IS NULL OR :endDate IS NULL OR (r.startAt <= :endDate AND r.endAt >= :startDate)) " +
-            "GROUP BY b.id, u.id, r.id, pi.id")
-    List<BoardEntity> findLikedPostsByUserIdAndCategory(
-            @Param("userId") Integer userId,
-            @Param("category") BoardEntity.Category category,
-            @Param("startDate") Date startDate,
-            @Param("endDate") Date endDate,
-            Sort sort);
-
-    @Query("SELECT b " +
-            "FROM BoardEntity b " +
-            "LEFT JOIN FETCH b.user u " +
-            "LEFT JOIN FETCH b.postImages pi " +
-            "WHERE b.category = :category " +
-            "GROUP BY b.id, u.id, pi.id " +
-            "ORDER BY " +
-            "CASE WHEN :sortBy = 'likeCount' THEN (SELECT COUNT(l) FROM LikesEntity l WHERE l.board.id = b.id) END DESC, " +
-            "CASE WHEN :sortBy = 'createdAt' THEN b.createdAt END DESC")
-    List<BoardEntity> findTop4BoardsByCategory(@Param("category") BoardEntity.Category category, @Param("sortBy") String sortBy);
+    @Query("SELECT new com.github.travelbuddy.board.search.BoardSearchSource(b.id, b.category, b.title, b.summary, b.content, b.route.id) " +
+            "FROM BoardEntity b WHERE b.id = :boardId")
+    Optional<BoardSearchSource> findSearchSourceById(@Param("boardId") Integer boardId);
+
+    @Query("SELECT rd.route.id, rdp.placeName FROM RouteDayPlaceEntity rdp " +
+            "JOIN rdp.routeDay rd " +
+            "WHERE rd.route.id IN :routeIds")
+    List<Object[]> findPlaceNamesByRouteIds(@Param("routeIds") Collection<Integer> routeIds);
+
+    @Query("SELECT new com.github.travelbuddy.board.period.BoardPeriod(b.id, b.category, r.startAt, r.endAt) " +
+            "FROM BoardEntity b JOIN b.route r WHERE b.id > :afterId ORDER BY b.id")
+    List<BoardPeriod> findPeriodsAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+    @Query("SELECT new com.github.travelbuddy.board.period.BoardPeriod(b.id, b.category, r.startAt, r.endAt) " +
+            "FROM BoardEntity b JOIN b.route r WHERE b.id = :boardId")
+    Optional<BoardPeriod> findPeriodById(@Param("boardId") Integer boardId);
+
+    @Query("SELECT b.category FROM BoardEntity b WHERE b.id = :boardId")
+    Optional<BoardEntity.Category> findCategoryById(@Param("boardId") Integer boardId);
+
+    @Query("SELECT b.id, b.category, b.createdAt, b.likeCount FROM BoardEntity b WHERE b.createdAt >= :since")
+    List<Object[]> findTrendingSeeds(@Param("since") LocalDateTime since);
 
     @Query("SELECT COUNT(b.id) FROM BoardEntity b WHERE b.user.id = :userId and b.category = :category")
     Integer countByUserIdAndCategory(@Param("userId") Integer userId, @Param("category") BoardEntity.Category category);
-
-    @Query("SELECT b FROM BoardEntity b " +
-            "JOIN b.route r " +
-            "JOIN UsersInTravelEntity uit ON uit.trip.board.id = b.id " +
-            "WHERE uit.user.id = :userId " +
-            "AND (:category IS NULL OR b.category = :category) " +
-            "AND (:startDate IS NULL OR :endDate IS NULL OR (r.startAt <= :endDate AND r.endAt >= :startDate)) " +
-            "GROUP BY b.id " +
-            "ORDER BY b.createdAt DESC")
-    List<BoardEntity> findParticipatedTripsByUserWithLikeCountAndCategory(
-            @Param("userId") Integer userId,
-            @Param("category") BoardEntity.Category category,
-            @Param("startDate") Date startDate,
-            @Param("endDate") Date endDate,
-            Sort sort);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.github.travelbuddy.board.repository;
+
+import com.github.travelbuddy.board.dto.BoardListCondition;
+import com.github.travelbuddy.board.dto.BoardListRow;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardRepositoryCustom {
+    List<BoardListRow> findBoardSlice(BoardListCondition condition, int limit);
+
+    List<BoardListRow> findBoardRowsByIds(Collection<Integer> boardIds);
+}
@@ -0,0 +1,108 @@
+package com.github.travelbuddy.board.repository;
+
+import com.github.travelbuddy.board.dto.BoardCursor;
+import com.github.travelbuddy.board.dto.BoardListCondition;
+import com.github.travelbuddy.board.dto.BoardListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 목록에 필요한 컬럼만 생성자 표현식으로 조회한다
+    // 대표 이미지는 게시물당 가장 먼저 등록된 한 장만 상관 서브쿼리로 가져오므로 이미지 수만큼 행이 늘어나지 않는다
+    // 목록에는 썸네일(없으면 원본)과 BlurHash 미리보기를 내려준다
+    private static final String FIRST_IMAGE = "(SELECT MIN(pi2.id) FROM PostImageEntity pi2 WHERE pi2.board = b)";
+    private static final String SELECT_LIST_ROW = "SELECT new com.github.travelbuddy.board.dto.BoardListRow(" +
+            "b.id, b.category, b.title, b.summary, u.name, r.startAt, r.endAt, b.createdAt, b.likeCount, " +
+            "(SELECT COALESCE(pi.thumbnailUrl, pi.url) FROM PostImageEntity pi WHERE pi.id = " + FIRST_IMAGE + "), " +
+            "(SELECT pi.placeholder FROM PostImageEntity pi WHERE pi.id = " + FIRST_IMAGE + ")) " +
+            "FROM BoardEntity b " +
+            "LEFT JOIN b.user u " +
+            "LEFT JOIN b.route r ";
+
+    // (정렬 키, id) 키셋 조건으로 다음 페이지를 조회하므로 OFFSET 없이 페이지 깊이와 무관하게 인덱스를 탄다
+    @Override
+    public List<BoardListRow> findBoardSlice(BoardListCondition condition, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT_LIST_ROW);
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        switch (condition.getScope()) {
+            case AUTHORED -> predicates.add("u.id = :userId");
+            case LIKED -> predicates.add("EXISTS (SELECT 1 FROM LikesEntity l WHERE l.board = b AND l.user.id = :userId)");
+            case PARTICIPATED -> predicates.add("EXISTS (SELECT 1 FROM UsersInTravelEntity uit WHERE uit.trip.board = b AND uit.user.id = :userId)");
+            default -> { }
+        }
+        if (condition.getScope() != BoardListCondition.Scope.ALL) {
+            params.put("userId", condition.getUserId());
+        }
+
+        if (condition.getCategory() != null) {
+            predicates.add("b.category = :category");
+            params.put("category", condition.getCategory());
+        }
+
+        if (condition.getPeriodCandidateIds() != null) {
+            if (condition.getPeriodCandidateIds().isEmpty()) {
+                return List.of();
+            }
+            predicates.add("b.id IN :periodCandidateIds");
+            params.put("periodCandidateIds", condition.getPeriodCandidateIds());
+        } else if (condition.getStartDate() != null && condition.getEndDate() != null) {
+            predicates.add("r.startAt <= :endDate AND r.endAt >= :startDate");
+            params.put("startDate", condition.getStartDate());
+            params.put("endDate", condition.getEndDate());
+        }
+
+        String sortKey = condition.getSortType().getExpression();
+        boolean descending = condition.getDirection() == Sort.Direction.DESC;
+        String comparator = descending ? "<" : ">";
+
+        boolean nullable = condition.getSortType().isNullable();
+        BoardCursor cursor = condition.getCursor();
+        if (cursor != null && cursor.getSortValue() == null) {
+            // null 키 구간에 들어온 뒤에는 id 로만 이어간다
+            predicates.add("(" + sortKey + " IS NULL AND b.id " + comparator + " :cursorId)");
+            params.put("cursorId", cursor.getId());
+        } else if (cursor != null) {
+            predicates.add("(" + sortKey + " " + comparator + " :cursorValue OR (" + sortKey + " = :cursorValue AND b.id " + comparator + " :cursorId)"
+                    + (nullable ? " OR " + sortKey + " IS NULL" : "") + ")");
+            params.put("cursorValue", cursor.getSortValue());
+            params.put("cursorId", cursor.getId());
+        }
+
+        if (!predicates.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", predicates)).append(" ");
+        }
+
+        String direction = descending ? "DESC" : "ASC";
+        jpql.append("ORDER BY ").append(sortKey).append(" ").append(direction).append(nullable ? " NULLS LAST" : "")
+                .append(", b.id ").append(direction);
+
+        TypedQuery<BoardListRow> query = entityManager.createQuery(jpql.toString(), BoardListRow.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<BoardListRow> findBoardRowsByIds(Collection<Integer> boardIds) {
+        if (boardIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(SELECT_LIST_ROW + "WHERE b.id IN :boardIds", BoardListRow.class)
+                .setParameter("boardIds", boardIds)
+                .getResultList();
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.travelbuddy.board.search;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시물 역색인 + BM25 점수 계산, 갱신은 쓰기 락 / 검색은 읽기 락으로 동시 검색 허용
+@Component
+public class BoardSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUMMARY_WEIGHT = 2;
+    private static final int PLACE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void index(BoardSearchSource source, Collection<String> placeNames) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addField(termFrequencies, source.getTitle(), TITLE_WEIGHT);
+        addField(termFrequencies, source.getSummary(), SUMMARY_WEIGHT);
+        addField(termFrequencies, source.getContent(), CONTENT_WEIGHT);
+        for (String placeName : placeNames) {
+            addField(termFrequencies, placeName, PLACE_WEIGHT);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+        Document document = new Document(source.getCategory(), length, termFrequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(source.getId());
+            documents.put(source.getId(), document);
+            totalLength += length;
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(source.getId(), frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer boardId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, BoardEntity.Category category, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(BoardTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((boardId, frequency) -> {
+                    Document document = documents.get(boardId);
+                    if (category != null && document.category() != category) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    scores.merge(boardId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+
+            return new SearchResult(topK(scores, (int) Math.min((long) offset + limit, Integer.MAX_VALUE), offset), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 정렬 대신 크기 k 최소 힙으로 상위 k개만 추림, 힙은 후보 수보다 크게 잡지 않는다
+    private List<Integer> topK(Map<Integer, Double> scores, int k, int offset) {
+        k = Math.min(k, scores.size());
+        Comparator<Map.Entry<Integer, Double>> byScore = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(Math.max(k, 1), byScore);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(entry);
+            } else if (k > 0 && byScore.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+    }
+
+    private void removeInternal(Integer boardId) {
+        Document removed = documents.remove(boardId);
+        if (removed == null) {
+            return;
+        }
+        totalLength -= removed.length();
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Integer, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : BoardTokenizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record Document(BoardEntity.Category category, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    public record SearchResult(List<Integer> boardIds, int totalHits) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.travelbuddy.board.search;
+
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import com.github.travelbuddy.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+// 기동 시 전체 게시물을 id 순으로 나눠 색인하고, 이후에는 게시물 변경 이벤트로 해당 게시물만 다시 색인
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSearchIndexer {
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+
+    @Value("${board.search.bulk-size:1000}")
+    private int bulkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexAll() {
+        long startedAt = System.currentTimeMillis();
+        int afterId = 0;
+        while (true) {
+            List<BoardSearchSource> sources = boardRepository.findSearchSourcesAfter(afterId, PageRequest.of(0, bulkSize));
+            if (sources.isEmpty()) {
+                break;
+            }
+            indexSources(sources);
+            afterId = sources.get(sources.size() - 1).getId();
+        }
+        log.info("게시물 검색 색인 완료: {}건, {}ms", boardSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.getType()) {
+            case DELETED -> boardSearchIndex.remove(event.getBoardId());
+            case CREATED, UPDATED, ROUTE_UPDATED -> boardRepository.findSearchSourceById(event.getBoardId())
+                    .ifPresentOrElse(source -> indexSources(List.of(source)),
+                            () -> boardSearchIndex.remove(event.getBoardId()));
+            default -> { }
+        }
+    }
+
+    private void indexSources(List<BoardSearchSource> sources) {
+        Set<Integer> routeIds = new HashSet<>();
+        for (BoardSearchSource source : sources) {
+            if (source.getRouteId() != null) {
+                routeIds.add(source.getRouteId());
+            }
+        }
+
+        Map<Integer, List<String>> placeNamesByRoute = new HashMap<>();
+        if (!routeIds.isEmpty()) {
+            for (Object[] row : boardRepository.findPlaceNamesByRouteIds(routeIds)) {
+                placeNamesByRoute.computeIfAbsent((Integer) row[0], key -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+
+        for (BoardSearchSource source : sources) {
+            boardSearchIndex.index(source, placeNamesByRoute.getOrDefault(source.getRouteId(), List.of()));
+        }
+    }
+}
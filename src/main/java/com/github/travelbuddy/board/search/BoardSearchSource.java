@@ -0,0 +1,17 @@
+package com.github.travelbuddy.board.search;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 색인에 필요한 게시물 컬럼만 담는 프로젝션, BoardRepository 생성자 표현식과 필드 순서가 같아야 한다
+@Getter
+@AllArgsConstructor
+public class BoardSearchSource {
+    private Integer id;
+    private BoardEntity.Category category;
+    private String title;
+    private String summary;
+    private String content;
+    private Integer routeId;
+}
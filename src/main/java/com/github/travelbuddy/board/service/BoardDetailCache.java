@@ -0,0 +1,97 @@
+package com.github.travelbuddy.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.travelbuddy.board.dto.BoardDetailDto;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 조립된 게시물 상세 응답 캐시, 크기 기준(근사 바이트) W-TinyLFU 제거 + 작성 후 TTL
+@Component
+@Slf4j
+public class BoardDetailCache {
+    private final Cache<Integer, BoardDetailDto> cache;
+    // 조회 도중 그 게시물이 무효화되면 조회 결과를 캐시에 넣지 않기 위한 게시물별 버전
+    // 다른 게시물의 좋아요 등은 이 게시물의 적재를 막지 않는다
+    private final ConcurrentHashMap<Integer, Long> versions = new ConcurrentHashMap<>();
+
+    public BoardDetailCache(MeterRegistry meterRegistry,
+                            @Value("${board.detail-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                            @Value("${board.detail-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(BoardDetailCache::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardDetail");
+    }
+
+    public BoardDetailDto get(Integer boardId, Supplier<BoardDetailDto> loader) {
+        BoardDetailDto cached = cache.getIfPresent(boardId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long loadedAt = versions.get(boardId);
+        BoardDetailDto loaded = loader.get();
+        // 버전 확인과 저장을 같은 키 잠금 안에서 해서, 확인 직후 들어온 무효화가 저장 뒤에 실행되도록 한다
+        cache.asMap().compute(boardId, (id, current) -> Objects.equals(versions.get(id), loadedAt) ? loaded : current);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        // 댓글은 상세 응답에 포함되지 않음
+        if (event.getType() == BoardChangedEvent.Type.COMMENT_ADDED || event.getType() == BoardChangedEvent.Type.COMMENT_REMOVED) {
+            return;
+        }
+        versions.merge(event.getBoardId(), 1L, Long::sum);
+        cache.invalidate(event.getBoardId());
+    }
+
+    private static int weigh(Integer boardId, BoardDetailDto detail) {
+        long bytes = 512;
+        BoardDetailDto.BoardDto board = detail.getBoard();
+        if (board != null) {
+            bytes += 2L * (length(board.getTitle()) + length(board.getSummary()) + length(board.getContent())
+                    + length(board.getAuthor()) + length(board.getUserProfile())
+                    + length(board.getUserProfileThumbnail()) + length(board.getUserProfilePlaceholder()));
+            if (board.getImages() != null) {
+                for (String image : board.getImages()) {
+                    bytes += 48 + 2L * length(image);
+                }
+            }
+            if (board.getImageVariants() != null) {
+                for (BoardDetailDto.ImageDto image : board.getImageVariants()) {
+                    bytes += 64 + 2L * (length(image.getUrl()) + length(image.getMediumUrl()) + length(image.getPlaceholder()));
+                }
+            }
+        }
+        BoardDetailDto.RouteDto route = detail.getRoute();
+        if (route != null && route.getRouteDetails() != null) {
+            for (List<Map<String, String>> places : route.getRouteDetails().values()) {
+                for (Map<String, String> place : places) {
+                    bytes += 128 + 2L * (length(place.get("placeName")) + length(place.get("placeCategory")));
+                }
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
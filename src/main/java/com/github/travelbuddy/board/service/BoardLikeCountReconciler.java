@@ -0,0 +1,26 @@
+package com.github.travelbuddy.board.service;
+
+import com.github.travelbuddy.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardLikeCountReconciler {
+    private final BoardRepository boardRepository;
+
+    // boards.like_count 와 likes 테이블의 실제 개수가 어긋난 게시물만 다시 맞춤
+    @Scheduled(initialDelayString = "${board.like-count.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${board.like-count.reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcile() {
+        int repaired = boardRepository.reconcileLikeCounts();
+        if (repaired > 0) {
+            log.warn("좋아요 수 불일치 게시물 {}건 보정", repaired);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.travelbuddy.board.service;
+
+import com.github.travelbuddy.board.dto.BoardMainDto;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 메인 페이지(top4) 응답을 메모리에 들고 있다가 참조 교체로 갱신, 조회 요청은 락 없이 현재 스냅샷을 그대로 반환
+@Component
+@Slf4j
+public class BoardMainSnapshot {
+    private final BoardService boardService;
+    private final Timer rebuildTimer;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // 변경 이벤트가 몰려도 재생성은 한 번만 예약되도록 합침
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "board-main-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BoardMainSnapshot(BoardService boardService, MeterRegistry meterRegistry) {
+        this.boardService = boardService;
+        this.rebuildTimer = Timer.builder("board.main.snapshot.rebuild")
+                .description("메인 페이지 스냅샷 재생성 시간")
+                .register(meterRegistry);
+        Gauge.builder("board.main.snapshot.staleness", this, BoardMainSnapshot::stalenessSeconds)
+                .description("마지막 스냅샷 생성 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public BoardMainDto get() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            // 기동 직후 첫 재생성 전에 들어온 요청만 직접 생성
+            snapshot = rebuild();
+        }
+        return snapshot.data();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    @Scheduled(initialDelayString = "${board.main-snapshot.refresh-interval-ms:60000}",
+            fixedDelayString = "${board.main-snapshot.refresh-interval-ms:60000}")
+    public void refresh() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED, DELETED, LIKE_ADDED, LIKE_REMOVED -> requestRebuild();
+            default -> { }
+        }
+    }
+
+    private void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("메인 페이지 스냅샷 재생성 실패, 이전 스냅샷 유지", e);
+                }
+            });
+        }
+    }
+
+    private Snapshot rebuild() {
+        Snapshot snapshot = rebuildTimer.record(() ->
+                new Snapshot(boardService.getTop4BoardsByCategories(), System.currentTimeMillis()));
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private double stalenessSeconds() {
+        Snapshot snapshot = current.get();
+        return snapshot == null ? Double.NaN : (System.currentTimeMillis() - snapshot.builtAt()) / 1000.0;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        rebuildExecutor.shutdown();
+        rebuildExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record Snapshot(BoardMainDto data, long builtAt) {
+    }
+}
@@ -2,10 +2,17 @@ package com.github.travelbuddy.board.service;
 
 import com.github.travelbuddy.board.dto.*;
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.enums.BoardSortType;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
 import com.github.travelbuddy.board.mapper.BoardMapper;
+import com.github.travelbuddy.board.period.BoardPeriodIndex;
 import com.github.travelbuddy.board.repository.BoardRepository;
+import com.github.travelbuddy.board.search.BoardSearchIndex;
+import com.github.travelbuddy.board.trending.BoardTrendingIndex;
 import com.github.travelbuddy.comment.repository.CommentRepository;
-import com.github.travelbuddy.common.service.S3Service;
+import com.github.travelbuddy.common.dto.UploadedImage;
+import com.github.travelbuddy.common.service.ImageUploadService;
+import com.github.travelbuddy.common.service.SingleFlight;
 import com.github.travelbuddy.common.util.UUIDUtil;
 import com.github.travelbuddy.likes.repository.LikesRepository;
 import com.github.travelbuddy.likes.service.LikesService;
@@ -18,17 +25,19 @@ import com.github.travelbuddy.trip.entity.TripEntity;
 import com.github.travelbuddy.trip.repository.TripRepository;
 import com.github.travelbuddy.trip.service.TripService;
 import com.github.travelbuddy.users.dto.CustomUserDetails;
+import com.github.travelbuddy.users.service.ProfileVersionService;
 import com.github.travelbuddy.users.entity.UserEntity;
 import com.github.travelbuddy.users.enums.Role;
 import com.github.travelbuddy.users.repository.UserRepository;
 import com.github.travelbuddy.usersInTravel.repository.UsersInTravelRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
@@ -37,6 +46,7 @@ import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,46 +55,87 @@ import java.util.stream.Collectors;
 public class BoardService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ProfileVersionService profileVersionService;
     private final RouteRepository routeRepository;
     private final PostImageRepository postImageRepository;
     private final TripRepository tripRepository;
-    private final S3Service s3Service;
     private final TripService tripService;
     private final UsersInTravelRepository usersInTravelRepository;
     private final LikesRepository likesRepository;
     private final LikesService likesService;
     private final CommentRepository commentRepository;
-
-    public List<BoardAllDto> getAllBoards(String category, Date startDate, Date endDate, String sortBy, String order) {
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardDetailCache boardDetailCache;
+    private final SingleFlight singleFlight;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardPeriodIndex boardPeriodIndex;
+    private final BoardTrendingIndex boardTrendingIndex;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_DEPTH = 1000;
+
+    @Transactional(readOnly = true)
+    public BoardPageResponseDto<BoardAllDto> getAllBoards(String category, Date startDate, Date endDate, String sortBy, String order, String cursor, Integer size) {
         BoardEntity.Category categoryEnum = category != null ? BoardEntity.Category.valueOf(category) : null;
+        BoardSortType sortType = BoardSortType.from(sortBy);
 
-        List<BoardEntity> boardEntities;
-        //TODO : likes로 넣지말고 controller에서 sort로 넘기기
-        //TODO : 페이징 처리 무한스크롤을 위한다면 좀 더 알아보기
-        if ("likes".equals(sortBy)) {
-            boardEntities = boardRepository.findAllWithRepresentativeImageAndDateRange(categoryEnum, startDate, endDate, Sort.unsorted());
-        } else {
-            Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(order)));
-            boardEntities = boardRepository.findAllWithRepresentativeImageAndDateRange(categoryEnum, startDate, endDate, sort);
+        if (sortType == BoardSortType.TRENDING) {
+            BoardPageResponseDto<BoardAllDto> page = findTrendingPage(categoryEnum, startDate, endDate, decodeCursor(cursor, sortType), size);
+            page.setMessage("게시물을 성공적으로 조회했습니다.");
+            return page;
         }
 
-        List<BoardAllDto> boardDtos = boardEntities.stream().map(board -> {
-            BoardAllDto dto = BoardMapper.INSTANCE.boardEntityToBoardAllDto(board);
-            Long likeCount = boardRepository.countLikesByBoardId(board.getId());
-            dto.setLikeCount(likeCount);
-            return dto;
-        }).collect(Collectors.toList());
+        BoardListCondition condition = BoardListCondition.builder()
+                .scope(BoardListCondition.Scope.ALL)
+                .category(categoryEnum)
+                .startDate(startDate)
+                .endDate(endDate)
+                .periodCandidateIds(findPeriodCandidates(categoryEnum, startDate, endDate))
+                .sortType(sortType)
+                .direction(resolveDirection(order))
+                .cursor(decodeCursor(cursor, sortType))
+                .build();
 
-        if ("likes".equals(sortBy)) {
-            boardDtos = boardDtos.stream()
-                    .sorted((b1, b2) -> "desc".equals(order) ? b2.getLikeCount().compareTo(b1.getLikeCount()) : b1.getLikeCount().compareTo(b2.getLikeCount()))
-                    .collect(Collectors.toList());
+        BoardPageResponseDto<BoardAllDto> page = findBoardPage(condition, size, BoardMapper.INSTANCE::boardListRowToBoardAllDto);
+        page.setMessage("게시물을 성공적으로 조회했습니다.");
+        return page;
+    }
+
+    public BoardPageResponseDto<BoardAllDto> searchBoards(String query, BoardEntity.Category category, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요.");
         }
 
-        return boardDtos;
+        int pageSize = resolvePageSize(size);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        // 깊은 페이지는 힙 크기가 offset 만큼 커지므로 검색 결과는 MAX_SEARCH_DEPTH 건까지만 내려준다
+        long offset = (long) pageNumber * pageSize;
+        if (offset + pageSize > MAX_SEARCH_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색 결과는 " + MAX_SEARCH_DEPTH + "건까지만 조회할 수 있습니다.");
+        }
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(query, category, (int) offset, pageSize);
+
+        Map<Integer, BoardListRow> rowsById = boardRepository.findBoardRowsByIds(result.boardIds()).stream()
+                .collect(Collectors.toMap(BoardListRow::getId, Function.identity()));
+        List<BoardAllDto> boardAllDtos = result.boardIds().stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(BoardMapper.INSTANCE::boardListRowToBoardAllDto)
+                .collect(Collectors.toList());
+
+        boolean hasNext = result.totalHits() > offset + pageSize && offset + 2L * pageSize <= MAX_SEARCH_DEPTH;
+        String nextPage = hasNext ? String.valueOf(pageNumber + 1) : null;
+        return new BoardPageResponseDto<>("게시물 검색 결과를 조회했습니다.", boardAllDtos, nextPage, hasNext);
     }
 
     public BoardDetailDto getPostDetails(Integer postId) {
+        return boardDetailCache.get(postId, () -> singleFlight.execute("boardDetail", postId, () -> loadPostDetails(postId)));
+    }
+
+    private BoardDetailDto loadPostDetails(Integer postId) {
         BoardEntity boardEntity = boardRepository.findPostDetailsById(postId);
 
         if (boardEntity == null) {
@@ -92,10 +143,7 @@ public class BoardService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시물의 관련된 정보를 찾을 수 없습니다.");
         }
 
-        Long likeCount = boardRepository.countLikesByBoardId(postId);
-
         BoardDetailDto.BoardDto boardDto = BoardMapper.INSTANCE.toBoardDto(boardEntity);
-        boardDto.setLikeCount(likeCount);
 
         RouteEntity routeEntity = boardRepository.findRouteDetailsByRouteId(boardEntity.getRoute().getId());
         List<RouteDayEntity> routeDayEntities = boardRepository.findRouteDayDetailsByRouteId(routeEntity.getId());
@@ -109,13 +157,20 @@ public class BoardService {
         return new BoardDetailDto(boardDto, routeDto, tripDto);
     }
 
-    public BoardResponseDto<BoardSimpleDto> getBoardsByUserAndCategory(CustomUserDetails userDetails, BoardEntity.Category category) {
+    @Transactional(readOnly = true)
+    public BoardPageResponseDto<BoardSimpleDto> getBoardsByUserAndCategory(CustomUserDetails userDetails, BoardEntity.Category category, String cursor, Integer size) {
         Integer userId = userDetails.getUserId();
-        List<BoardEntity> boardEntities = boardRepository.findBoardsByUserIdAndCategory(userId, category);
-        List<BoardSimpleDto> boardSimpleDtos = boardEntities.stream().map(board -> {
-            String representativeImage = board.getPostImages().isEmpty() ? null : board.getPostImages().get(0).getUrl();
-            return BoardMapper.INSTANCE.boardEntityToBoardSimpleDto(board, representativeImage);
-        }).collect(Collectors.toList());
+        BoardListCondition condition = BoardListCondition.builder()
+                .scope(BoardListCondition.Scope.AUTHORED)
+                .userId(userId)
+                .category(category)
+                .sortType(BoardSortType.CREATED_AT)
+                .direction(Sort.Direction.DESC)
+                .cursor(decodeCursor(cursor, BoardSortType.CREATED_AT))
+                .build();
+
+        BoardPageResponseDto<BoardSimpleDto> page = findBoardPage(condition, size, BoardMapper.INSTANCE::boardListRowToBoardSimpleDto);
+        List<BoardSimpleDto> boardSimpleDtos = page.getData();
 
         //TODO : message controller로 빼기
         String message;
@@ -136,125 +191,148 @@ public class BoardService {
         } else {
             message = "게시물을 성공적으로 조회했습니다.";
         }
-        return new BoardResponseDto<>(message, boardSimpleDtos);
+        page.setMessage(message);
+        return page;
     }
 
-    public List<BoardAllDto> getLikedPostsByUser(CustomUserDetails userDetails, BoardEntity.Category category, Date startDate, Date endDate, String sortBy, String order) {
+    @Transactional(readOnly = true)
+    public BoardPageResponseDto<BoardAllDto> getLikedPostsByUser(CustomUserDetails userDetails, BoardEntity.Category category, Date startDate, Date endDate, String sortBy, String order, String cursor, Integer size) {
         Integer userId = userDetails.getUserId();
+        BoardSortType sortType = BoardSortType.from(sortBy);
+
+        BoardListCondition condition = BoardListCondition.builder()
+                .scope(BoardListCondition.Scope.LIKED)
+                .userId(userId)
+                .category(category)
+                .startDate(startDate)
+                .endDate(endDate)
+                .periodCandidateIds(findPeriodCandidates(category, startDate, endDate))
+                .sortType(sortType)
+                .direction(resolveDirection(order))
+                .cursor(decodeCursor(cursor, sortType))
+                .build();
 
-        List<BoardEntity> boardEntities;
-        if ("likes".equals(sortBy)) {
-            boardEntities = boardRepository.findLikedPostsByUserIdAndCategory(userId, category, startDate, endDate , Sort.unsorted());
-        } else {
-            Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(order)));
-            boardEntities = boardRepository.findLikedPostsByUserIdAndCategory(userId, category, startDate, endDate , sort);
-        }
-
-        List<BoardAllDto> boardDtos = boardEntities.stream().map(board -> {
-            BoardAllDto dto = BoardMapper.INSTANCE.boardEntityToBoardAllDto(board);
-            Long likeCount = boardRepository.countLikesByBoardId(board.getId());
-            dto.setLikeCount(likeCount);
-            return dto;
-        }).collect(Collectors.toList());
-
-        if ("likes".equals(sortBy)) {
-            boardDtos = boardDtos.stream()
-                    .sorted((b1, b2) -> "desc".equals(order) ? b2.getLikeCount().compareTo(b1.getLikeCount()) : b1.getLikeCount().compareTo(b2.getLikeCount()))
-                    .collect(Collectors.toList());
-        }
-
-        return boardDtos;
+        return findBoardPage(condition, size, BoardMapper.INSTANCE::boardListRowToBoardAllDto);
     }
 
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 병렬로 끝내고, DB 에는 URL 만 짧은 트랜잭션으로 기록한다
     public void createBoard(BoardCreateDto createDto, CustomUserDetails userDetails) throws IOException{
         Integer userId = userDetails.getUserId();
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"유저 찾을 수 없음"));
         RouteEntity route = routeRepository.findById(createDto.getRouteId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"경로 찾을 수 없음"));
 
-        BoardEntity board = BoardEntity.builder()
-                .user(user)
-                .route(route)
-                .title(createDto.getTitle())
-                .summary(createDto.getSummary())
-                .content(createDto.getContent())
-                .category(createDto.getCategory())
-                .createdAt(LocalDateTime.now())
-                .build();
+        List<UploadedImage> uploadedImages = imageUploadService.uploadAll(createDto.getImages());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 토큰의 역할이 이미 ALL 이면 승급 검사가 필요 없으니 사용자 행을 읽지 않고 참조만 건다
+                boolean promotable = userDetails.getRole() != Role.ALL;
+                UserEntity user = promotable
+                        ? userRepository.findById(userId)
+                                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"유저 찾을 수 없음"))
+                        : userRepository.getReferenceById(userId);
+                BoardEntity board = BoardEntity.builder()
+                        .user(user)
+                        .route(route)
+                        .title(createDto.getTitle())
+                        .summary(createDto.getSummary())
+                        .content(createDto.getContent())
+                        .category(createDto.getCategory())
+                        .createdAt(LocalDateTime.now())
+                        .likeCount(0L)
+                        .build();
 
-        boardRepository.save(board);
+                boardRepository.save(board);
+                postImageRepository.insertAll(board.getId(), uploadedImages);
 
-        if (createDto.getImages() != null) {
-            for (MultipartFile image : createDto.getImages()) {
-                String imageUrl = s3Service.uploadFile(image);
-                PostImageEntity postImage = PostImageEntity.builder()
-                        .board(board)
-                        .url(imageUrl)
-                        .build();
-                postImageRepository.save(postImage);
-            }
-        }
+                if (createDto.getCategory() == BoardEntity.Category.COMPANION || createDto.getCategory() == BoardEntity.Category.GUIDE){
+                    tripService.createTrip(user, board, createDto.getAgeMin(), createDto.getAgeMax(), createDto.getTargetNumber(), TripEntity.Gender.valueOf(createDto.getGender()));
+                }
 
-        if (createDto.getCategory() == BoardEntity.Category.COMPANION || createDto.getCategory() == BoardEntity.Category.GUIDE){
-            tripService.createTrip(user, board, createDto.getAgeMin(), createDto.getAgeMax(), createDto.getTargetNumber(), TripEntity.Gender.valueOf(createDto.getGender()));
-        }
+                eventPublisher.publishEvent(new BoardChangedEvent(board.getId(), BoardChangedEvent.Type.CREATED));
 
-        if(user.getRole().equals(Role.USER)){
-            Integer boardCnt = boardRepository.countByUserIdAndCategory(userId, BoardEntity.Category.COMPANION);
-            LocalDateTime currentTime = LocalDateTime.now();
-            LocalDateTime signupTime = user.getCreatedAt();
+                if(promotable && Role.USER.equals(user.getRole())){
+                    Integer boardCnt = boardRepository.countByUserIdAndCategory(userId, BoardEntity.Category.COMPANION);
+                    LocalDateTime currentTime = LocalDateTime.now();
+                    LocalDateTime signupTime = user.getCreatedAt();
 
-            Period signupDuration = Period.between(signupTime.toLocalDate(), currentTime.toLocalDate());
+                    Period signupDuration = Period.between(signupTime.toLocalDate(), currentTime.toLocalDate());
 
-            if(boardCnt >= 20 && signupDuration.toTotalMonths() >= 6){
-                UserEntity updateUser = user.toBuilder().role(Role.ALL).build();
-                userRepository.save(updateUser);
-            }
+                    if(boardCnt >= 20 && signupDuration.toTotalMonths() >= 6){
+                        UserEntity updateUser = user.toBuilder().role(Role.ALL).build();
+                        userRepository.save(updateUser);
+                        profileVersionService.bump(userId);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            imageUploadService.releaseAll(uploadedImages);
+            throw e;
         }
     }
 
-    @Transactional
     public void updateBoard(BoardCreateDto updateDto, CustomUserDetails userDetails, Integer postId) throws IOException{
         Integer userId = userDetails.getUserId();
-        BoardEntity board = boardRepository.findById(postId)
+        BoardEntity existingBoard = boardRepository.findById(postId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"게시글을 찾을 수 없습니다."));
         RouteEntity route = routeRepository.findById(updateDto.getRouteId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"경로 찾을 수 없음"));
 
-        if (!board.getUser().getId().equals(userId)) {
+        if (!existingBoard.getUser().getId().equals(userId)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,"게시글을 수정할 권한이 없습니다.");
         }
 
-        board.setRoute(route);
-        board.setTitle(updateDto.getTitle());
-        board.setSummary(updateDto.getSummary());
-        board.setContent(updateDto.getContent());
-        board.setCategory(updateDto.getCategory());
-        board.setCreatedAt(LocalDateTime.now());
-
-        boardRepository.save(board);
-
-        if (updateDto.getImages() != null) {
-            List<PostImageEntity> existingImages = postImageRepository.findAllByBoard(board);
-            for (PostImageEntity image : existingImages) {
-                s3Service.deleteFile(image.getUrl());
-                postImageRepository.delete(image);
-            }
-
-            for (MultipartFile image : updateDto.getImages()) {
-                String imageUrl = s3Service.uploadFile(image);
-                PostImageEntity postImage = PostImageEntity.builder()
-                        .board(board)
-                        .url(imageUrl)
-                        .build();
-                postImageRepository.save(postImage);
+        boolean diffImages = updateDto.getKeepImages() != null;
+        if (diffImages) {
+            Set<String> existingUrls = postImageRepository.findAllByBoard(existingBoard).stream()
+                    .map(PostImageEntity::getUrl)
+                    .collect(Collectors.toSet());
+            if (!existingUrls.containsAll(updateDto.getKeepImages())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "유지할 이미지가 게시물에 없습니다.");
             }
         }
 
-        if (updateDto.getCategory() == BoardEntity.Category.COMPANION || updateDto.getCategory() == BoardEntity.Category.GUIDE) {
-            tripService.updateTrip(userId , board, updateDto.getAgeMin(), updateDto.getAgeMax(), updateDto.getTargetNumber(), TripEntity.Gender.valueOf(updateDto.getGender()));
+        List<UploadedImage> uploadedImages = imageUploadService.uploadAll(updateDto.getImages());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BoardEntity board = boardRepository.findById(postId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"게시글을 찾을 수 없습니다."));
+
+                board.setRoute(route);
+                board.setTitle(updateDto.getTitle());
+                board.setSummary(updateDto.getSummary());
+                board.setContent(updateDto.getContent());
+                board.setCategory(updateDto.getCategory());
+                board.setCreatedAt(LocalDateTime.now());
+
+                boardRepository.save(board);
+
+                if (diffImages) {
+                    // 유지 목록에서 빠진 이미지만 지우고 새 이미지는 뒤에 덧붙인다, 그대로인 이미지는 S3/DB 모두 건드리지 않음
+                    Set<String> keepUrls = new HashSet<>(updateDto.getKeepImages());
+                    List<PostImageEntity> removedImages = postImageRepository.findAllByBoard(board).stream()
+                            .filter(image -> !keepUrls.contains(image.getUrl()))
+                            .collect(Collectors.toList());
+                    postImageRepository.deleteAllInBatch(removedImages);
+                    postImageRepository.insertAll(postId, uploadedImages);
+                    imageUploadService.releaseAll(toUploadedImages(removedImages));
+                } else if (updateDto.getImages() != null) {
+                    List<PostImageEntity> existingImages = postImageRepository.findAllByBoard(board);
+                    postImageRepository.deleteAllInBatch(existingImages);
+                    postImageRepository.insertAll(postId, uploadedImages);
+                    imageUploadService.releaseAll(toUploadedImages(existingImages));
+                }
+
+                if (updateDto.getCategory() == BoardEntity.Category.COMPANION || updateDto.getCategory() == BoardEntity.Category.GUIDE) {
+                    tripService.updateTrip(userId , board, updateDto.getAgeMin(), updateDto.getAgeMax(), updateDto.getTargetNumber(), TripEntity.Gender.valueOf(updateDto.getGender()));
+                }
+
+                eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.UPDATED));
+            });
+        } catch (RuntimeException e) {
+            imageUploadService.releaseAll(uploadedImages);
+            throw e;
         }
     }
 
@@ -268,8 +346,10 @@ public class BoardService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED,"게시글을 삭제할 권한이 없습니다.");
         }
 
-        // 게시글의 모든 이미지 삭제
+        // 게시글의 모든 이미지 삭제, 다른 곳에서 참조하지 않는 객체는 커밋 뒤 저장소에서도 지운다
+        List<PostImageEntity> images = postImageRepository.findAllByBoard(board);
         postImageRepository.deleteAllByBoard(board);
+        imageUploadService.releaseAll(toUploadedImages(images));
 
         // 여행정보로 관련 모든 여행참여자 정보 삭제
         usersInTravelRepository.deleteAllByTrip(trip);
@@ -284,61 +364,147 @@ public class BoardService {
         commentRepository.deleteAllByBoard(board);
 
         boardRepository.delete(board);
+        eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.DELETED));
     }
 
-    public BoardResponseDto<BoardAllDto> getParticipatedTripsByUser(CustomUserDetails userDetails, BoardEntity.Category category, Date startDate, Date endDate, String sortBy, String order) {
+    @Transactional(readOnly = true)
+    public BoardPageResponseDto<BoardAllDto> getParticipatedTripsByUser(CustomUserDetails userDetails, BoardEntity.Category category, Date startDate, Date endDate, String sortBy, String order, String cursor, Integer size) {
         Integer userId = userDetails.getUserId();
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "유저를 찾을 수 없습니다."));
 
-        if (category.equals(BoardEntity.Category.REVIEW)) {
+        if (BoardEntity.Category.REVIEW.equals(category)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "리뷰 카테고리는 조회할 수 없습니다");
         }
 
-        List<BoardEntity> boardEntities;
-        if ("likes".equals(sortBy)) {
-            boardEntities = boardRepository.findParticipatedTripsByUserWithLikeCountAndCategory(userId, category, startDate, endDate, Sort.unsorted());
-        } else {
-            Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(order)));
-            boardEntities = boardRepository.findParticipatedTripsByUserWithLikeCountAndCategory(userId, category, startDate, endDate, sort);
+        BoardSortType sortType = BoardSortType.from(sortBy);
+        BoardListCondition condition = BoardListCondition.builder()
+                .scope(BoardListCondition.Scope.PARTICIPATED)
+                .userId(userId)
+                .category(category)
+                .startDate(startDate)
+                .endDate(endDate)
+                .periodCandidateIds(findPeriodCandidates(category, startDate, endDate))
+                .sortType(sortType)
+                .direction(resolveDirection(order))
+                .cursor(decodeCursor(cursor, sortType))
+                .build();
+
+        BoardPageResponseDto<BoardAllDto> page = findBoardPage(condition, size, BoardMapper.INSTANCE::boardListRowToBoardAllDto);
+
+        if (page.getData().isEmpty() && cursor == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "조회할 수 있는 데이터가 없습니다.");
         }
 
-        List<BoardAllDto> boardDtos = boardEntities.stream().map(board -> {
-            BoardAllDto dto = BoardMapper.INSTANCE.boardEntityToBoardAllDto(board);
-            Long likeCount = boardRepository.countLikesByBoardId(board.getId());
-            dto.setLikeCount(likeCount);
-            return dto;
-        }).collect(Collectors.toList());
+        page.setMessage("참여한 여행 게시물을 성공적으로 조회했습니다.");
+        return page;
+    }
 
-        if ("likes".equals(sortBy)) {
-            boardDtos = boardDtos.stream()
-                    .sorted((b1, b2) -> "desc".equals(order) ? b2.getLikeCount().compareTo(b1.getLikeCount()) : b1.getLikeCount().compareTo(b2.getLikeCount()))
+        @Transactional(readOnly = true)
+        public BoardMainDto getTop4BoardsByCategories() {
+            List<BoardMainSimpleDto> top4ReviewBoards = getTop4BoardsByCategory(BoardEntity.Category.REVIEW, BoardSortType.LIKES);
+            List<BoardMainSimpleDto> top4GuideBoards = getTop4BoardsByCategory(BoardEntity.Category.GUIDE, BoardSortType.CREATED_AT);
+            List<BoardMainSimpleDto> top4CompanionBoards = getTop4BoardsByCategory(BoardEntity.Category.COMPANION, BoardSortType.CREATED_AT);
+
+            return new BoardMainDto(top4ReviewBoards, top4GuideBoards, top4CompanionBoards);
+        }
+
+        private List<BoardMainSimpleDto> getTop4BoardsByCategory(BoardEntity.Category category, BoardSortType sortType) {
+            BoardListCondition condition = BoardListCondition.builder()
+                    .scope(BoardListCondition.Scope.ALL)
+                    .category(category)
+                    .sortType(sortType)
+                    .direction(Sort.Direction.DESC)
+                    .build();
+            return boardRepository.findBoardSlice(condition, 4).stream()
+                    .map(BoardMapper.INSTANCE::boardListRowToBoardMainSimpleDto)
                     .collect(Collectors.toList());
         }
 
-        if (boardDtos.isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "조회할 수 있는 데이터가 없습니다.");
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 행의 (정렬 키, id)로 다음 커서를 만든다
+    private <T> BoardPageResponseDto<T> findBoardPage(BoardListCondition condition, Integer size, Function<BoardListRow, T> mapper) {
+        if (condition.getSortType() == BoardSortType.TRENDING) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "인기순 정렬은 전체 게시물 조회에서만 지원합니다.");
+        }
+        int pageSize = resolvePageSize(size);
+
+        List<BoardListRow> rows = boardRepository.findBoardSlice(condition, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
         }
 
-        String message = "참여한 여행 게시물을 성공적으로 조회했습니다.";
-        return new BoardResponseDto<>(message, boardDtos);
+        String nextCursor = null;
+        if (hasNext) {
+            BoardListRow last = rows.get(rows.size() - 1);
+            nextCursor = BoardCursor.of(condition.getSortType(), getSortValue(condition.getSortType(), last), last.getId()).encode();
+        }
+
+        List<T> data = rows.stream().map(mapper).collect(Collectors.toList());
+        return new BoardPageResponseDto<>(null, data, nextCursor, hasNext);
     }
 
-        public BoardMainDto getTop4BoardsByCategories() {
-            List<BoardMainSimpleDto> top4ReviewBoards = getTop4BoardsByCategory(BoardEntity.Category.REVIEW, "likeCount");
-            List<BoardMainSimpleDto> top4GuideBoards = getTop4BoardsByCategory(BoardEntity.Category.GUIDE, "createdAt");
-            List<BoardMainSimpleDto> top4CompanionBoards = getTop4BoardsByCategory(BoardEntity.Category.COMPANION, "createdAt");
+    // 인기순 상위 K 게시물을 한 번에 읽어 기간 조건을 메모리에서 거르고, 커서에는 목록 내 위치를 담는다
+    private BoardPageResponseDto<BoardAllDto> findTrendingPage(BoardEntity.Category category, Date startDate, Date endDate, BoardCursor cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<Integer> rankedIds = boardTrendingIndex.top(category);
+
+        Map<Integer, BoardListRow> rowsById = boardRepository.findBoardRowsByIds(rankedIds).stream()
+                .collect(Collectors.toMap(BoardListRow::getId, Function.identity()));
+        List<BoardListRow> ranked = rankedIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .filter(row -> overlapsPeriod(row, startDate, endDate))
+                .collect(Collectors.toList());
+
+        int offset = cursor == null ? 0 : (int) Math.max(0, Math.min((Long) cursor.getSortValue(), ranked.size()));
+        int end = Math.min(offset + pageSize, ranked.size());
+        List<BoardAllDto> data = ranked.subList(offset, end).stream()
+                .map(BoardMapper.INSTANCE::boardListRowToBoardAllDto)
+                .collect(Collectors.toList());
+
+        boolean hasNext = end < ranked.size();
+        String nextCursor = hasNext ? BoardCursor.of(BoardSortType.TRENDING, (long) end, ranked.get(end - 1).getId()).encode() : null;
+        return new BoardPageResponseDto<>(null, data, nextCursor, hasNext);
+    }
 
-            return new BoardMainDto(top4ReviewBoards, top4GuideBoards, top4CompanionBoards);
+    private boolean overlapsPeriod(BoardListRow row, Date startDate, Date endDate) {
+        if (startDate == null || endDate == null) {
+            return true;
         }
+        return row.getStartAt() != null && row.getEndAt() != null
+                && !row.getStartAt().after(endDate) && !row.getEndAt().before(startDate);
+    }
+
+    private List<UploadedImage> toUploadedImages(List<PostImageEntity> images) {
+        return images.stream()
+                .map(image -> new UploadedImage(image.getUrl(), image.getThumbnailUrl(), image.getMediumUrl(), image.getPlaceholder()))
+                .collect(Collectors.toList());
+    }
 
-        private List<BoardMainSimpleDto> getTop4BoardsByCategory(BoardEntity.Category category, String sortBy) {
-            List<BoardEntity> boardEntities = boardRepository.findTop4BoardsByCategory(category, sortBy);
-            return boardEntities.stream().map(board -> {
-                Long likeCount = boardRepository.countLikesByBoardId(board.getId());
-                BoardMainSimpleDto dto  = BoardMapper.INSTANCE.boardEntityToBoardMainSimpleDto(board);
-                dto.setLikeCount(likeCount);
-                return dto;
-            }).collect(Collectors.toList());
+    private List<Integer> findPeriodCandidates(BoardEntity.Category category, Date startDate, Date endDate) {
+        if (startDate == null || endDate == null) {
+            return null;
         }
+        return boardPeriodIndex.findOverlapping(category, startDate, endDate).orElse(null);
+    }
+
+    private int resolvePageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private Object getSortValue(BoardSortType sortType, BoardListRow row) {
+        return switch (sortType) {
+            case CREATED_AT -> row.getCreatedAt();
+            case LIKES -> row.getLikeCount();
+            case START_AT -> row.getStartAt();
+            case TRENDING -> throw new IllegalStateException("인기순은 키셋 커서를 사용하지 않습니다.");
+        };
+    }
+
+    private BoardCursor decodeCursor(String cursor, BoardSortType sortType) {
+        return cursor == null || cursor.isBlank() ? null : BoardCursor.decode(cursor, sortType);
+    }
+
+    private Sort.Direction resolveDirection(String order) {
+        return order == null ? Sort.Direction.DESC : Sort.Direction.fromString(order);
+    }
     }
\ No newline at end of file
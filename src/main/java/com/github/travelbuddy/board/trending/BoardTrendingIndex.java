@@ -0,0 +1,121 @@
+package com.github.travelbuddy.board.trending;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+// 지수 감쇠 인기 점수 + 카테고리별 상위 K 조회
+// 점수는 기준 시각 t0 기준으로 Σ w·e^{λ(t - t0)} 형태로 저장해 이벤트마다 더하기만 하면 되고,
+// 실제 점수는 모든 게시물에 같은 e^{-λ(now - t0)} 가 곱해지므로 순위 비교는 저장값 그대로 한다
+// 모든 게시물을 점수순 TreeSet 에 함께 들고 있어서 점수가 오르든 내리든 갱신은 O(log N), 상위 K 조회는 앞에서 K 개만 읽는다
+@Component
+public class BoardTrendingIndex {
+    // 지수가 이 값을 넘기 전에 t0 를 현재로 옮겨 double 오버플로를 막는다
+    private static final double MAX_EXPONENT = 50;
+    // 실제 점수가 이보다 작아진 게시물은 재기준화 때 정리
+    private static final double PRUNE_THRESHOLD = 1e-3;
+
+    private static final Comparator<Score> RANKING = Comparator.comparingDouble(Score::value).reversed()
+            .thenComparing(Comparator.comparingInt(Score::boardId).reversed());
+
+    private final double lambdaPerMillis;
+    private final int topK;
+    private final Map<Integer, Score> scores = new HashMap<>();
+    private final Map<BoardEntity.Category, TreeSet<Score>> rankedByCategory = new EnumMap<>(BoardEntity.Category.class);
+    private final TreeSet<Score> rankedAll = new TreeSet<>(RANKING);
+    private long baseTime = System.currentTimeMillis();
+
+    public BoardTrendingIndex(@Value("${board.trending.half-life:24h}") Duration halfLife,
+                              @Value("${board.trending.top-k:100}") int topK) {
+        this.lambdaPerMillis = Math.log(2) / halfLife.toMillis();
+        this.topK = topK;
+        for (BoardEntity.Category category : BoardEntity.Category.values()) {
+            rankedByCategory.put(category, new TreeSet<>(RANKING));
+        }
+    }
+
+    public synchronized boolean contains(Integer boardId) {
+        return scores.containsKey(boardId);
+    }
+
+    public synchronized void register(Integer boardId, BoardEntity.Category category) {
+        Score existing = scores.get(boardId);
+        if (existing != null && existing.category() == category) {
+            return;
+        }
+        double value = existing == null ? 0 : existing.value();
+        if (existing != null) {
+            unrank(existing);
+        }
+        rank(new Score(boardId, category, value));
+    }
+
+    public synchronized void add(Integer boardId, BoardEntity.Category category, double weight, long eventTimeMillis) {
+        long now = System.currentTimeMillis();
+        if (lambdaPerMillis * (now - baseTime) > MAX_EXPONENT) {
+            rebase(now);
+        }
+
+        Score existing = scores.get(boardId);
+        double value = (existing == null ? 0 : existing.value()) + weight * Math.exp(lambdaPerMillis * (eventTimeMillis - baseTime));
+        if (existing != null) {
+            unrank(existing);
+        }
+        rank(new Score(boardId, existing == null ? category : existing.category(), Math.max(value, 0)));
+    }
+
+    public synchronized void remove(Integer boardId) {
+        Score removed = scores.get(boardId);
+        if (removed != null) {
+            unrank(removed);
+        }
+    }
+
+    // 점수순 집합의 앞에서 K 개만 복사하므로 O(K)
+    public synchronized List<Integer> top(BoardEntity.Category category) {
+        TreeSet<Score> ranked = category == null ? rankedAll : rankedByCategory.get(category);
+        List<Integer> boardIds = new ArrayList<>(Math.min(topK, ranked.size()));
+        for (Score score : ranked) {
+            if (boardIds.size() == topK) {
+                break;
+            }
+            boardIds.add(score.boardId());
+        }
+        return boardIds;
+    }
+
+    private void rank(Score score) {
+        scores.put(score.boardId(), score);
+        rankedByCategory.get(score.category()).add(score);
+        rankedAll.add(score);
+    }
+
+    private void unrank(Score score) {
+        scores.remove(score.boardId());
+        rankedByCategory.get(score.category()).remove(score);
+        rankedAll.remove(score);
+    }
+
+    // 모든 점수에 같은 배율을 곱하므로 순서는 그대로지만, 저장값이 바뀌어 집합은 다시 만든다, 수십 반감기에 한 번이다
+    private void rebase(long now) {
+        double factor = Math.exp(-lambdaPerMillis * (now - baseTime));
+        baseTime = now;
+        List<Score> rescaled = new ArrayList<>(scores.size());
+        for (Score score : scores.values()) {
+            double value = score.value() * factor;
+            if (value >= PRUNE_THRESHOLD) {
+                rescaled.add(new Score(score.boardId(), score.category(), value));
+            }
+        }
+        scores.clear();
+        rankedByCategory.values().forEach(TreeSet::clear);
+        rankedAll.clear();
+        rescaled.forEach(this::rank);
+    }
+
+    private record Score(Integer boardId, BoardEntity.Category category, double value) {
+    }
+}
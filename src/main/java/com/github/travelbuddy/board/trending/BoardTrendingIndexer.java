@@ -0,0 +1,90 @@
+package com.github.travelbuddy.board.trending;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import com.github.travelbuddy.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+// 좋아요/댓글/참여 이벤트마다 해당 게시물 인기 점수에 가중치를 더하고 뺀다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTrendingIndexer {
+    private final BoardRepository boardRepository;
+    private final BoardTrendingIndex boardTrendingIndex;
+
+    @Value("${board.trending.weight.like:1.0}")
+    private double likeWeight;
+
+    @Value("${board.trending.weight.comment:2.0}")
+    private double commentWeight;
+
+    @Value("${board.trending.weight.participant:3.0}")
+    private double participantWeight;
+
+    @Value("${board.trending.seed-window:14d}")
+    private Duration seedWindow;
+
+    // 시각 정보가 없는 이전 좋아요가 있으므로 최근 게시물의 현재 좋아요 수를 작성 시각에 받은 것으로 보고 초기 점수를 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<Object[]> rows = boardRepository.findTrendingSeeds(LocalDateTime.now().minus(seedWindow));
+        for (Object[] row : rows) {
+            Integer boardId = (Integer) row[0];
+            BoardEntity.Category category = (BoardEntity.Category) row[1];
+            long createdAt = ((LocalDateTime) row[2]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            long likeCount = (Long) row[3];
+            boardTrendingIndex.register(boardId, category);
+            if (likeCount > 0) {
+                boardTrendingIndex.add(boardId, category, likeWeight * likeCount, createdAt);
+            }
+        }
+        log.info("인기 점수 초기화 완료: {}건", rows.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Integer boardId = event.getBoardId();
+        switch (event.getType()) {
+            case CREATED, UPDATED -> boardRepository.findCategoryById(boardId)
+                    .ifPresent(category -> boardTrendingIndex.register(boardId, category));
+            case DELETED -> boardTrendingIndex.remove(boardId);
+            case LIKE_ADDED -> addScore(boardId, likeWeight, System.currentTimeMillis());
+            case LIKE_REMOVED -> removeScore(boardId, likeWeight, event.getOriginalOccurredAt());
+            case COMMENT_ADDED -> addScore(boardId, commentWeight, System.currentTimeMillis());
+            case COMMENT_REMOVED -> removeScore(boardId, commentWeight, event.getOriginalOccurredAt());
+            case PARTICIPANT_JOINED -> addScore(boardId, participantWeight, System.currentTimeMillis());
+            case PARTICIPANT_LEFT -> removeScore(boardId, participantWeight, event.getOriginalOccurredAt());
+            default -> { }
+        }
+    }
+
+    // 취소는 원래 행동 시각으로 빼야 그때 더해져 지금까지 감쇠된 만큼만 빠진다, 지금 시각으로 빼면 감쇠 전 값 전체가 빠진다
+    // 원래 시각을 모르는 취소는 점수를 건드리지 않는다
+    private void removeScore(Integer boardId, double weight, LocalDateTime originalOccurredAt) {
+        if (originalOccurredAt == null) {
+            return;
+        }
+        addScore(boardId, -weight, originalOccurredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void addScore(Integer boardId, double weight, long eventTimeMillis) {
+        if (boardTrendingIndex.contains(boardId)) {
+            boardTrendingIndex.add(boardId, null, weight, eventTimeMillis);
+            return;
+        }
+        boardRepository.findCategoryById(boardId)
+                .ifPresent(category -> boardTrendingIndex.add(boardId, category, weight, eventTimeMillis));
+    }
+}
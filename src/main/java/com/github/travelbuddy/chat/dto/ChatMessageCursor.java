@@ -0,0 +1,40 @@
+package com.github.travelbuddy.chat.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+// 지금까지 내려준 것 중 가장 오래된 메시지의 (sentAt, id)를 담는 불투명 커서
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatMessageCursor {
+    private static final String DELIMITER = "|";
+
+    private final Instant sentAt;
+    private final String id;
+
+    public static ChatMessageCursor of(Instant sentAt, String id) {
+        return new ChatMessageCursor(sentAt, id);
+    }
+
+    public String encode() {
+        String raw = sentAt.toEpochMilli() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatMessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            return new ChatMessageCursor(Instant.ofEpochMilli(Long.parseLong(parts[0])), parts[1]);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
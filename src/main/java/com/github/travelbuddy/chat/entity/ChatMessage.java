@@ -3,11 +3,14 @@ package com.github.travelbuddy.chat.entity;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.Date;
 
 
+// 대화 기록은 (chatId, sentAt, _id) 인덱스를 따라 최근 것부터 커서로 나눠 읽는다
 @Getter
 @Setter
 @AllArgsConstructor
@@ -15,6 +18,7 @@ import java.util.Date;
 @Builder
 @ToString
 @Document
+@CompoundIndex(name = "chat_sent_at", def = "{'chatId': 1, 'sentAt': -1, '_id': -1}")
 public class ChatMessage {
     @Id // id를 String, ObjectId, BigInteger 중 하나로 사용해야 함
     private String id;
@@ -22,5 +26,7 @@ public class ChatMessage {
     private String senderId;
     private String opponentId;
     private String content;
+    // 클라이언트가 보낸 표시용 문자열, 정렬과 페이지 나누기는 서버가 기록한 sentAt 으로 한다
     private String timeStamp;
+    private Instant sentAt;
 }
@@ -2,19 +2,35 @@ package com.github.travelbuddy.chat.entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 
+
+// 방 하나에 참여자별 문서가 하나씩 있고, senderId 가 그 문서의 주인이다
+// 목록은 (senderId, lastActivityAt) 인덱스로 자기 방만 최근 대화 순으로 읽는다
+// (senderId, recipientId) 는 유니크라서 같은 상대와의 방 문서가 두 개 생기지 않는다
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "sender_last_activity", def = "{'senderId': 1, 'lastActivityAt': -1, '_id': -1}"),
+        @CompoundIndex(name = ChatRoom.SENDER_RECIPIENT_INDEX, def = "{'senderId': 1, 'recipientId': 1}", unique = true)
+})
 public class ChatRoom {
+    public static final String SENDER_RECIPIENT_INDEX = "sender_recipient";
+
     @Id
     private String id;
+    @Indexed
     private String chatId;
     private String senderId;
     private String recipientId;
+    private Instant lastActivityAt;
 }
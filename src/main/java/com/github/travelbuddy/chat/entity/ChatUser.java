@@ -3,6 +3,7 @@ package com.github.travelbuddy.chat.entity;
 import com.github.travelbuddy.chat.enums.Status;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
@@ -14,6 +15,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class ChatUser {
     @Id
     private String id;
+    @Indexed
     private Integer userId;
     private String userName;
     private Status status;
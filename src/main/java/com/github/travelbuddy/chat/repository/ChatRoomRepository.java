@@ -2,12 +2,19 @@ package com.github.travelbuddy.chat.repository;
 
 
 import com.github.travelbuddy.chat.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends MongoRepository<ChatRoom, BigInteger> {
     Optional<ChatRoom> findBySenderIdAndRecipientId(String senderId, String recipientId);
     Optional<ChatRoom> findBySenderIdAndChatId(String senderId, String chatRoomId);
+
+    // 목록에 필요한 필드만 읽는다, 정렬은 호출하는 쪽에서 lastActivityAt 내림차순으로 넘긴다
+    @Query(value = "{ 'senderId': ?0 }", fields = "{ 'chatId': 1, 'senderId': 1, 'recipientId': 1, 'lastActivityAt': 1 }")
+    List<ChatRoom> findInboxBySenderId(String senderId, Pageable pageable);
 }
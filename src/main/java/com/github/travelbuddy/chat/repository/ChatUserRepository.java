@@ -4,11 +4,13 @@ import com.github.travelbuddy.chat.entity.ChatUser;
 import com.github.travelbuddy.chat.enums.Status;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatUserRepository extends MongoRepository<ChatUser, String> {
     ChatUser findByUserName(String userName);
     ChatUser findByUserId(Integer userId);
+    List<ChatUser> findAllByUserIdIn(Collection<Integer> userIds);
     List<ChatUser> findAllByStatus(Status status);
     boolean existsByUserName(String userName);
 }
@@ -14,5 +14,9 @@ public class ChatRoomOpenResponse {
     private String opponentName;
     private String opponentId;
     private String opponentProfile;
+    private String opponentProfileThumbnail;
+    private String opponentProfilePlaceholder;
     private List<ChatMessage> messages;
+    private String nextCursor;
+    private boolean hasMore;
 }
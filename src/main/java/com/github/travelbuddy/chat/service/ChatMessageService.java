@@ -1,32 +1,87 @@
 package com.github.travelbuddy.chat.service;
 
+import com.github.travelbuddy.chat.dto.ChatMessageCursor;
 import com.github.travelbuddy.chat.entity.ChatMessage;
-import com.github.travelbuddy.chat.repository.ChatMessageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
-    private final ChatMessageRepository repository;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("sentAt"), Sort.Order.desc("id"));
+
     private final ChatRoomService chatRoomService;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.write-behind.ack-after-flush:false}")
+    private boolean ackAfterFlush;
 
-    public ChatMessage save(ChatMessage chatMessage) {
+    // 저장은 ChatMessageWriter 가 모아서 하고, 기본 모드에서는 바로 완료된 future 를 돌려줘서 곧장 전송할 수 있다
+    // chat.write-behind.ack-after-flush 를 켜면 Mongo 에 들어간 뒤에 완료된다
+    public CompletableFuture<ChatMessage> save(ChatMessage chatMessage) {
         String chatId = chatRoomService.getChatRoomId(chatMessage.getSenderId(), chatMessage.getOpponentId(), true)
                 .orElseThrow();
 
+        chatMessage.setId(new ObjectId().toHexString());
         chatMessage.setChatId(chatId);
-        repository.save(chatMessage);
+        chatMessage.setSentAt(Instant.now());
+        CompletableFuture<Void> persisted;
+        try {
+            persisted = chatMessageWriter.enqueue(chatMessage);
+        } catch (IllegalStateException e) {
+            // 대기열이 가득 찼거나 종료 중이면 호출자의 exceptionally 로 처리되도록 실패한 future 로 돌려준다
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return ackAfterFlush
+                ? persisted.thenApply(ignored -> chatMessage)
+                : CompletableFuture.completedFuture(chatMessage);
+    }
+
+    // 커서가 없으면 최근 size 개, 있으면 커서보다 이전 size 개를 읽는다, 반환 목록은 오래된 것부터 정렬된다
+    public ChatMessagePage findChatMessages(String chatId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Criteria criteria = Criteria.where("chatId").is(chatId);
+        if (cursor != null && !cursor.isBlank()) {
+            ChatMessageCursor before = ChatMessageCursor.decode(cursor);
+            criteria = criteria.orOperator(
+                    Criteria.where("sentAt").lt(before.getSentAt()),
+                    Criteria.where("sentAt").is(before.getSentAt()).and("id").lt(before.getId()));
+        }
+
+        Query query = Query.query(criteria).with(LATEST_FIRST).limit(pageSize + 1);
+        List<ChatMessage> messages = new ArrayList<>(mongoTemplate.find(query, ChatMessage.class));
+        boolean hasMore = messages.size() > pageSize;
+        if (hasMore) {
+            messages.remove(pageSize);
+        }
 
-        return chatMessage;
+        String nextCursor = null;
+        if (hasMore) {
+            ChatMessage oldest = messages.get(messages.size() - 1);
+            nextCursor = ChatMessageCursor.of(oldest.getSentAt(), oldest.getId()).encode();
+        }
+        Collections.reverse(messages);
+        return new ChatMessagePage(messages, nextCursor, hasMore);
     }
 
-    public List<ChatMessage> findChatMessages(String chatId) {
-        return chatMessageRepository.findAllByChatId(chatId);
+    public record ChatMessagePage(List<ChatMessage> messages, String nextCursor, boolean hasMore) {
     }
 }
@@ -0,0 +1,254 @@
+package com.github.travelbuddy.chat.service;
+
+import com.github.travelbuddy.chat.entity.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지 write-behind 저장, 요청 스레드는 큐에 넣기만 하고 저장 스레드가 크기나 시간 기준으로 모아서 한 번에 insert 한다
+// 큐가 가득 차면 잠깐 기다렸다가 거절해서 Mongo 가 느릴 때 메모리가 끝없이 늘지 않게 한다
+// id 는 넣기 전에 정해 두므로, 재시도 중 이미 들어간 문서의 중복 키 오류는 성공으로 본다
+@Component
+@Slf4j
+public class ChatMessageWriter {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomService chatRoomService;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Duration enqueueTimeout;
+    private final int maxAttempts;
+    private final Duration drainTimeout;
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-message-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public ChatMessageWriter(MongoTemplate mongoTemplate,
+                             ChatRoomService chatRoomService,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.write-behind.capacity:10000}") int capacity,
+                             @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                             @Value("${chat.write-behind.flush-interval:50ms}") Duration flushInterval,
+                             @Value("${chat.write-behind.enqueue-timeout:100ms}") Duration enqueueTimeout,
+                             @Value("${chat.write-behind.max-attempts:5}") int maxAttempts,
+                             @Value("${chat.write-behind.drain-timeout:10s}") Duration drainTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.chatRoomService = chatRoomService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeout = enqueueTimeout;
+        this.maxAttempts = maxAttempts;
+        this.drainTimeout = drainTimeout;
+        this.flushTimer = Timer.builder("chat.message.write-behind.flush")
+                .description("채팅 메시지 묶음 저장 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.message.write-behind.rejected")
+                .description("대기열이 가득 차서 거절한 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.message.write-behind.dropped")
+                .description("저장하지 못하고 실패로 끝낸 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.message.write-behind.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        flushExecutor.execute(this::run);
+    }
+
+    // 반환된 future 는 메시지가 Mongo 에 들어간 뒤 완료된다
+    public CompletableFuture<Void> enqueue(ChatMessage message) {
+        if (!running) {
+            throw new IllegalStateException("채팅 메시지 저장이 종료되었습니다.");
+        }
+        Pending pending = new Pending(message, new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCounter.increment();
+                throw new IllegalStateException("채팅 메시지 저장 대기열이 가득 찼습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅 메시지 저장 대기 중 중단되었습니다.", e);
+        }
+        return pending.persisted();
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    // 종료 중에는 남은 메시지를 마저 저장하기 위해 계속 돈다, 이미 꺼낸 메시지도 아래에서 그대로 저장한다
+                    running = false;
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    log.error("채팅 메시지 저장 스레드 오류", e);
+                    fail(batch, e);
+                }
+                batch.clear();
+            }
+        } finally {
+            // 예상하지 못한 오류로 스레드가 끝나도 꺼내 둔 메시지와 남은 메시지를 실패로 끝내 보내는 쪽이 멈추지 않게 한다
+            running = false;
+            IllegalStateException failure = new IllegalStateException("채팅 메시지 저장이 종료되었습니다.");
+            fail(batch, failure);
+            failQueued(failure);
+        }
+    }
+
+    // 첫 메시지가 들어온 뒤 flush-interval 이 지나거나 batch-size 가 차면 돌아온다
+    private void collect(List<Pending> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 이미 완료된 future 는 건드리지 않고, 이번에 실패로 끝낸 메시지만 버린 수로 센다
+    private void fail(List<Pending> batch, Throwable failure) {
+        int failed = 0;
+        for (Pending pending : batch) {
+            if (pending.persisted().completeExceptionally(failure)) {
+                failed++;
+            }
+        }
+        droppedCounter.increment(failed);
+    }
+
+    private void failQueued(Throwable failure) {
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, failure);
+    }
+
+    private void flush(List<Pending> batch) {
+        List<ChatMessage> messages = batch.stream().map(Pending::message).toList();
+        long startedAt = System.nanoTime();
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                insert(messages);
+                failure = null;
+                break;
+            } catch (RuntimeException e) {
+                failure = e;
+                log.warn("채팅 메시지 {}건 저장 실패 ({}/{})", messages.size(), attempt, maxAttempts, e);
+                if (attempt < maxAttempts && !sleep(Duration.ofMillis(100L << Math.min(attempt, 6)))) {
+                    break;
+                }
+            }
+        }
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (failure != null) {
+            log.error("채팅 메시지 {}건을 저장하지 못하고 버립니다", messages.size(), failure);
+            fail(batch, failure);
+            return;
+        }
+
+        touchRooms(messages);
+        for (Pending pending : batch) {
+            pending.persisted().complete(null);
+        }
+    }
+
+    private void insert(List<ChatMessage> messages) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(messages)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+        }
+    }
+
+    // 방 목록 정렬용 시각 갱신은 부가 작업이라 실패해도 메시지 저장은 성공으로 둔다
+    private void touchRooms(List<ChatMessage> messages) {
+        Map<String, Instant> latestByChatId = new HashMap<>();
+        for (ChatMessage message : messages) {
+            latestByChatId.merge(message.getChatId(), message.getSentAt(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        try {
+            chatRoomService.touchAll(latestByChatId);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 마지막 대화 시각 갱신 실패", e);
+        }
+    }
+
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            running = false;
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flushExecutor.shutdown();
+        if (!flushExecutor.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.error("종료 전에 채팅 메시지 {}건을 저장하지 못했습니다", queue.size());
+            flushExecutor.shutdownNow();
+            failQueued(new IllegalStateException("종료 전에 채팅 메시지를 저장하지 못했습니다."));
+        }
+    }
+
+    private record Pending(ChatMessage message, CompletableFuture<Void> persisted) {
+    }
+}
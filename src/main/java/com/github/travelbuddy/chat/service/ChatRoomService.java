@@ -1,88 +1,169 @@
 package com.github.travelbuddy.chat.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.travelbuddy.chat.entity.ChatRoom;
 import com.github.travelbuddy.chat.entity.ChatUser;
 import com.github.travelbuddy.chat.enums.Status;
 import com.github.travelbuddy.chat.repository.ChatRoomRepository;
 import com.github.travelbuddy.chat.repository.ChatUserRepository;
 import com.github.travelbuddy.chat.response.GetAllRoomsForUserResponse;
-import com.github.travelbuddy.users.entity.UserEntity;
+import com.github.travelbuddy.users.dto.UserSummaryRow;
 import com.github.travelbuddy.users.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+// 방 id 는 두 사용자 id 를 작은 쪽부터 이은 값이라 누가 먼저 보내도 같다
+// 참여자별 문서는 (senderId, recipientId) 유니크 인덱스에 upsert 하므로 동시에 첫 메시지를 보내도 방이 둘로 갈리지 않는다
+// 한 번 정해진 방 id 는 바뀌지 않으므로 메모리에 캐시해서 전송 경로에서는 Mongo 를 다시 읽지 않는다
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatRoomService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort INBOX_SORT = Sort.by(Sort.Order.desc("lastActivityAt"), Sort.Order.desc("id"));
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatUserRepository chatUserRepository;
     private final UserRepository userRepository;
-
-    public Optional<String> getChatRoomId(String senderId, String opponentId, boolean createNewRoomIfNotExists) {
-        return chatRoomRepository.findBySenderIdAndRecipientId(senderId, opponentId)
-                .map(ChatRoom::getChatId)
-                .or(() -> {
-                    if (createNewRoomIfNotExists) {
-                        String chatId = createChatId(senderId, opponentId);
-                        return Optional.of(chatId);
-                    }
-                    return Optional.empty();
-                });
-    }
-
-    private String createChatId(String myId, String opponentId) {
-        String chatRoomId = String.format("%s_%s", myId, opponentId);
-
-        ChatRoom senderOpponent = ChatRoom.builder()
-                .chatId(chatRoomId)
-                .senderId(myId)
-                .recipientId(opponentId)
-                .build();
-
-        ChatRoom opponentSender = ChatRoom.builder()
-                .chatId(chatRoomId)
-                .senderId(opponentId)
-                .recipientId(myId)
+    private final MongoTemplate mongoTemplate;
+    private final Cache<String, String> chatIds;
+
+    public ChatRoomService(ChatRoomRepository chatRoomRepository,
+                           ChatUserRepository chatUserRepository,
+                           UserRepository userRepository,
+                           MongoTemplate mongoTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat.room-cache.max-size:100000}") long maxSize) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatUserRepository = chatUserRepository;
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.chatIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
                 .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, chatIds, "chatRoomId");
+    }
 
-        chatRoomRepository.save(senderOpponent);
-        chatRoomRepository.save(opponentSender);
+    public Optional<String> getChatRoomId(String senderId, String opponentId, boolean createNewRoomIfNotExists) {
+        String key = canonicalChatId(senderId, opponentId);
+        String cached = chatIds.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-        return chatRoomId;
+        Optional<String> chatId = createNewRoomIfNotExists
+                ? Optional.of(upsertRoom(senderId, opponentId, key))
+                : chatRoomRepository.findBySenderIdAndRecipientId(senderId, opponentId).map(ChatRoom::getChatId);
+        chatId.ifPresent(id -> chatIds.put(key, id));
+        return chatId;
     }
 
+    // 이전 방식으로 만들어진 방("b_a" 등)은 기존 id 를 그대로 쓴다
+    // setOnInsert 라서 상대방 문서가 새로 생길 때만 보내는 쪽 id 를 물려받고, 이미 있는 문서의 id 는 바꾸지 않는다
+    // 한 쌍의 문서가 서로 다른 id 를 갖던 기존 데이터는 기동 시 MongoIndexInitializer 가 하나로 합친다
+    private String upsertRoom(String senderId, String opponentId, String canonicalChatId) {
+        Instant now = Instant.now();
+        String chatId = upsertParticipant(senderId, opponentId, canonicalChatId, now).getChatId();
+        upsertParticipant(opponentId, senderId, chatId, now);
+        return chatId;
+    }
 
-    public List<GetAllRoomsForUserResponse> getAllChatRooms(Integer userId) {
-        List<GetAllRoomsForUserResponse> chatRoomsForUserResponse = new ArrayList<>();
-        List<ChatRoom> allChatRoomsInDB = chatRoomRepository.findAll();
-
-        String keyId = String.valueOf(userId);
-        List<ChatRoom> chatRoomsForUser = allChatRoomsInDB.stream()
-                .filter(chatRoom -> chatRoom.getChatId().contains(keyId)).toList();
+    private ChatRoom upsertParticipant(String senderId, String recipientId, String chatId, Instant now) {
+        Query query = Query.query(Criteria.where("senderId").is(senderId).and("recipientId").is(recipientId));
+        Update update = new Update()
+                .setOnInsert("chatId", chatId)
+                .setOnInsert("lastActivityAt", now);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        try {
+            return mongoTemplate.findAndModify(query, update, options, ChatRoom.class);
+        } catch (DuplicateKeyException e) {
+            // 같은 문서를 동시에 upsert 하다 진 쪽은 이긴 쪽이 넣은 문서를 읽는다
+            return mongoTemplate.findOne(query, ChatRoom.class);
+        }
+    }
 
-        for (ChatRoom chatRoom : chatRoomsForUser) {
-            String chatId = chatRoom.getChatId();
+    private String canonicalChatId(String userId, String otherUserId) {
+        return compareIds(userId, otherUserId) <= 0
+                ? userId + "_" + otherUserId
+                : otherUserId + "_" + userId;
+    }
 
-            if (chatRoom.getSenderId().equals(keyId)) {
-                String opponentId = chatRoom.getRecipientId();
+    // 사용자 id 는 숫자라서 "9" 와 "10" 이 문자열 순서로 뒤집히지 않게 숫자로 비교한다
+    private int compareIds(String a, String b) {
+        try {
+            return Long.compare(Long.parseLong(a), Long.parseLong(b));
+        } catch (NumberFormatException e) {
+            return a.compareTo(b);
+        }
+    }
 
-                UserEntity opponentUserEntity = userRepository.findById(Integer.valueOf(opponentId)).get();
-                String opponentName = opponentUserEntity.getName();
+    // 자기 문서만 인덱스로 읽으므로 비용은 이 사용자의 방 수에만 비례한다
+    public List<GetAllRoomsForUserResponse> getAllChatRooms(Integer userId, Integer page, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, INBOX_SORT);
 
-                ChatUser chatUser = chatUserRepository.findByUserId(Integer.valueOf(opponentId));
-                Status status = chatUser.getStatus();
+        List<ChatRoom> chatRooms = chatRoomRepository.findInboxBySenderId(String.valueOf(userId), pageable);
+        if (chatRooms.isEmpty()) {
+            return List.of();
+        }
 
-                GetAllRoomsForUserResponse getAllRoomsForUserResponse = new GetAllRoomsForUserResponse(chatId, opponentName, status);
-                chatRoomsForUserResponse.add(getAllRoomsForUserResponse);
+        // 상대방 이름(MySQL)과 접속 상태(MongoDB)를 방 수와 상관없이 각각 한 번의 IN 조회로 가져온다
+        Set<Integer> opponentIds = chatRooms.stream()
+                .map(chatRoom -> Integer.valueOf(chatRoom.getRecipientId()))
+                .collect(Collectors.toSet());
+        Map<Integer, String> namesById = userRepository.findSummariesByIdIn(opponentIds).stream()
+                .collect(Collectors.toMap(UserSummaryRow::getId, UserSummaryRow::getName));
+        Map<Integer, Status> statusesById = chatUserRepository.findAllByUserIdIn(opponentIds).stream()
+                .collect(Collectors.toMap(ChatUser::getUserId, ChatUser::getStatus, (first, second) -> first));
+
+        List<GetAllRoomsForUserResponse> chatRoomsForUserResponse = new ArrayList<>(chatRooms.size());
+        for (ChatRoom chatRoom : chatRooms) {
+            Integer opponentId = Integer.valueOf(chatRoom.getRecipientId());
+            String opponentName = namesById.get(opponentId);
+            // 탈퇴 등으로 사라진 상대방의 방은 목록에서 뺀다
+            if (opponentName == null) {
+                continue;
             }
+            Status status = statusesById.getOrDefault(opponentId, Status.OFFLINE);
+
+            chatRoomsForUserResponse.add(new GetAllRoomsForUserResponse(chatRoom.getChatId(), opponentName, status));
         }
 
         return chatRoomsForUserResponse;
     }
+
+    // 메시지가 오갈 때마다 양쪽 문서의 마지막 대화 시각을 올린다, 늦게 저장된 묶음이 시각을 되돌리지 않도록 $max 로 갱신
+    public void touchAll(Map<String, Instant> latestByChatId) {
+        if (latestByChatId.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoom.class);
+        latestByChatId.forEach((chatId, at) -> bulkOps.updateMulti(Query.query(Criteria.where("chatId").is(chatId)),
+                new Update().max("lastActivityAt", at)));
+        bulkOps.execute();
+    }
 }
@@ -12,4 +12,6 @@ public class CommentResponse {
     private String comment;
     private String userName;
     private String profileImgUrl;
+    private String profileThumbnailUrl;
+    private String profilePlaceholder;
 }
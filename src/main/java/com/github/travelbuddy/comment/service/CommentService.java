@@ -1,6 +1,7 @@
 package com.github.travelbuddy.comment.service;
 
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
 import com.github.travelbuddy.board.repository.BoardRepository;
 import com.github.travelbuddy.comment.dto.CommentDTO;
 import com.github.travelbuddy.comment.entity.CommentEntity;
@@ -14,10 +15,12 @@ import com.github.travelbuddy.users.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +31,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ResponseEntity<?> getAllComments(Integer postId) {
         try {
@@ -44,6 +48,8 @@ public class CommentService {
                         .userName(commentEntity.getUser().getName())
                         .comment(commentEntity.getContent())
                         .profileImgUrl(commentEntity.getUser().getProfilePictureUrl())
+                        .profileThumbnailUrl(commentEntity.getUser().profileThumbnailOrPicture())
+                        .profilePlaceholder(commentEntity.getUser().getProfilePlaceholder())
                         .build();
 
                 allCommentResponseList.add(commentResponse);
@@ -72,8 +78,8 @@ public class CommentService {
         try {
             checkBoardExists(postId);
 
-            UserEntity userEntity = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("아이디 " + userId + " 를 찾을 수 없습니다."));
+            // 인증된 사용자이므로 행을 읽지 않고 외래키 참조만 건다
+            UserEntity userEntity = userRepository.getReferenceById(userId);
 
             BoardEntity boardEntity = boardRepository.findById(postId).get();
 
@@ -84,6 +90,7 @@ public class CommentService {
                     .build();
 
             commentRepository.save(commentEntity);
+            eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.COMMENT_ADDED));
 
             AddCommentResponse addCommentResponse = AddCommentResponse.builder()
                     .postId(postId)
@@ -133,6 +140,8 @@ public class CommentService {
             CommentEntity commentEntity = commentRepository.findById(commentId).get();
 
             commentRepository.delete(commentEntity);
+            LocalDateTime commentedAt = commentEntity.getCreatedAt() != null ? commentEntity.getCreatedAt() : commentEntity.getBoard().getCreatedAt();
+            eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.COMMENT_REMOVED, commentedAt));
 
             return ResponseEntity.status(HttpStatus.OK).body("DELETE COMMENT COMPLETED");
         } catch (IllegalArgumentException ie) {
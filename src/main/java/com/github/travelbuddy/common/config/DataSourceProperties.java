@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "spring.datasource")
 @Getter
@@ -14,4 +16,25 @@ public class DataSourceProperties {
     private String url;
     private String username;
     private String password;
+    private Hikari hikari = new Hikari();
+
+    // spring.datasource.hikari.* 커넥션 풀 설정
+    @Getter
+    @Setter
+    public static class Hikari {
+        private String poolName = "travelbuddy-pool";
+        private int maximumPoolSize = 20;
+        private int minimumIdle = 5;
+        // 풀이 바닥났을 때 요청이 커넥션을 기다리는 최대 시간
+        private Duration connectionTimeout = Duration.ofSeconds(3);
+        private Duration validationTimeout = Duration.ofSeconds(2);
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        // MySQL wait_timeout(기본 8시간)보다 충분히 짧게
+        private Duration maxLifetime = Duration.ofMinutes(30);
+        private Duration keepaliveTime = Duration.ofMinutes(5);
+        // 이 시간 넘게 반납되지 않은 커넥션은 스택과 함께 경고 로그, 0 이면 끔
+        private Duration leakDetectionThreshold = Duration.ofSeconds(20);
+        private int prepStmtCacheSize = 250;
+        private int prepStmtCacheSqlLimit = 2048;
+    }
 }
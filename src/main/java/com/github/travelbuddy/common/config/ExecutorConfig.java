@@ -0,0 +1,60 @@
+package com.github.travelbuddy.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // S3 업로드 전용 풀, 큐가 가득 차면 요청 스레드가 직접 업로드해 자연스럽게 속도를 늦춘다
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(@Value("${image.upload.pool-size:8}") int poolSize,
+                                                      @Value("${image.upload.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 썸네일 생성은 CPU 작업이라 코어 수만큼만 돌린다
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(@Value("${image.processing.queue-capacity:32}") int queueCapacity) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 채팅 브로드캐스트 전용 풀, 저장 스레드(chat-message-writer)가 웹소켓 전송을 직접 하지 않도록 넘겨받는다
+    @Bean
+    public ThreadPoolTaskExecutor chatBroadcastExecutor(@Value("${chat.broadcast.pool-size:4}") int poolSize,
+                                                        @Value("${chat.broadcast.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-broadcast-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,11 +1,12 @@
 package com.github.travelbuddy.common.config;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -24,7 +25,8 @@ import java.util.Map;
                 "com.github.travelbuddy.likes.repository",
                 "com.github.travelbuddy.trip.repository",
                 "com.github.travelbuddy.usersInTravel.repository",
-                "com.github.travelbuddy.comment.repository"
+                "com.github.travelbuddy.comment.repository",
+                "com.github.travelbuddy.storedObject.repository"
         },
         entityManagerFactoryRef = "entityManagerFactoryBean1"
 )
@@ -47,7 +49,8 @@ public class JpaConfig {
                 "com.github.travelbuddy.likes.entity",
                 "com.github.travelbuddy.trip.entity",
                 "com.github.travelbuddy.usersInTravel.entity",
-                "com.github.travelbuddy.comment.entity"
+                "com.github.travelbuddy.comment.entity",
+                "com.github.travelbuddy.storedObject.entity"
         );
 
         JpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
@@ -61,14 +64,40 @@ public class JpaConfig {
 
         return em;
     }
-    @Bean
+    // 풀 지표(hikaricp.connections.*)는 actuator 가 HikariDataSource 빈을 찾아 Micrometer 에 붙인다
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
-        dataSource.setUrl(dataSourceProperties.getUrl());
-        dataSource.setUsername(dataSourceProperties.getUsername());
-        dataSource.setPassword(dataSourceProperties.getPassword());
+        DataSourceProperties.Hikari pool = dataSourceProperties.getHikari();
+        HikariConfig config = new HikariConfig();
+        if (dataSourceProperties.getDriverClassName() != null) {
+            config.setDriverClassName(dataSourceProperties.getDriverClassName());
+        }
+        config.setJdbcUrl(dataSourceProperties.getUrl());
+        config.setUsername(dataSourceProperties.getUsername());
+        config.setPassword(dataSourceProperties.getPassword());
+
+        config.setPoolName(pool.getPoolName());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        config.setValidationTimeout(pool.getValidationTimeout().toMillis());
+        config.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        config.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        config.setKeepaliveTime(pool.getKeepaliveTime().toMillis());
+        config.setLeakDetectionThreshold(pool.getLeakDetectionThreshold().toMillis());
+
+        // MySQL 드라이버 쪽 PreparedStatement 캐시와 왕복 줄이기, JDBC 배치는 다중 VALUES 로 다시 씀
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(pool.getPrepStmtCacheSize()));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(pool.getPrepStmtCacheSqlLimit()));
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("useLocalSessionState", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        config.addDataSourceProperty("cacheResultSetMetadata", "true");
+        config.addDataSourceProperty("cacheServerConfiguration", "true");
+        config.addDataSourceProperty("elideSetAutoCommits", "true");
+        config.addDataSourceProperty("maintainTimeStats", "false");
 
-        return dataSource;
+        return new HikariDataSource(config);
     }
 }
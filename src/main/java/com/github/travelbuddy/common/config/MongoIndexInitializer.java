@@ -0,0 +1,161 @@
+package com.github.travelbuddy.common.config;
+
+import com.github.travelbuddy.chat.entity.ChatMessage;
+import com.github.travelbuddy.chat.entity.ChatRoom;
+import com.github.travelbuddy.chat.entity.ChatUser;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// auto-index-creation 은 꺼져 있으므로 엔티티에 선언한 인덱스를 기동 시 직접 만든다, 이미 있으면 아무 일도 하지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+    private static final String MIGRATIONS_COLLECTION = "migrations";
+    private static final String CHAT_MESSAGE_SENT_AT_MIGRATION = "chat_message_sent_at";
+    private static final List<Class<?>> DOCUMENTS = List.of(ChatRoom.class, ChatUser.class, ChatMessage.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        backfillChatMessageSentAt();
+        mergeDuplicateChatRooms();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        for (Class<?> document : DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            resolver.resolveIndexFor(document).forEach(index -> {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (RuntimeException e) {
+                    // 실패는 남기고 나머지 인덱스를 계속 만든다, 방 유니크 인덱스는 아래에서 따로 확인해 없으면 기동을 멈춘다
+                    log.error("MongoDB 인덱스 생성 실패: {} {}", document.getSimpleName(), index.getIndexKeys(), e);
+                }
+            });
+        }
+        // 이 인덱스가 없으면 방 upsert 가 원자적이지 않아 같은 상대와의 방이 다시 갈라지므로 기동하지 않는다
+        if (!hasUniqueIndex(ChatRoom.class, ChatRoom.SENDER_RECIPIENT_INDEX)) {
+            throw new IllegalStateException("ChatRoom 유니크 인덱스(" + ChatRoom.SENDER_RECIPIENT_INDEX + ")가 없어 기동을 중단합니다.");
+        }
+        log.info("MongoDB 인덱스 확인 완료: {}", DOCUMENTS.stream().map(Class::getSimpleName).toList());
+    }
+
+    // 유니크 인덱스 도입 전에 같은 (senderId, recipientId) 로 여러 번 만들어진 방 문서를 하나로 합친다
+    // 인덱스가 이미 있으면 중복이 있을 수 없으므로 건너뛰고, 정리 대상은 중복이 있는 쌍으로만 좁힌다
+    private void mergeDuplicateChatRooms() {
+        if (hasUniqueIndex(ChatRoom.class, ChatRoom.SENDER_RECIPIENT_INDEX)) {
+            return;
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("senderId", "recipientId").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        List<Document> duplicates = mongoTemplate.aggregate(aggregation, ChatRoom.class, Document.class).getMappedResults();
+
+        Set<Set<String>> merged = new HashSet<>();
+        for (Document duplicate : duplicates) {
+            Document pair = duplicate.get("_id", Document.class);
+            String senderId = pair.getString("senderId");
+            String recipientId = pair.getString("recipientId");
+            if (merged.add(Set.of(senderId, recipientId))) {
+                mergeChatRoomPair(senderId, recipientId);
+            }
+        }
+        if (!merged.isEmpty()) {
+            log.info("중복 채팅방 문서 정리: {}쌍", merged.size());
+        }
+    }
+
+    // 두 방향 문서를 모두 가장 먼저 만들어진 문서의 chatId 로 모으고, 다른 chatId 로 쌓인 메시지도 함께 옮긴다
+    // 방향마다 가장 오래된 문서 하나만 남기고 마지막 대화 시각은 지워지는 문서들 중 가장 늦은 값으로 맞춘다
+    private void mergeChatRoomPair(String userId, String otherUserId) {
+        Query pairQuery = Query.query(new Criteria().orOperator(
+                Criteria.where("senderId").is(userId).and("recipientId").is(otherUserId),
+                Criteria.where("senderId").is(otherUserId).and("recipientId").is(userId)
+        )).with(Sort.by(Sort.Direction.ASC, "id"));
+        List<ChatRoom> rooms = mongoTemplate.find(pairQuery, ChatRoom.class);
+        if (rooms.isEmpty()) {
+            return;
+        }
+        String chatId = rooms.get(0).getChatId();
+
+        Set<String> staleChatIds = rooms.stream()
+                .map(ChatRoom::getChatId)
+                .filter(id -> id != null && !id.equals(chatId))
+                .collect(Collectors.toSet());
+        if (!staleChatIds.isEmpty()) {
+            mongoTemplate.updateMulti(Query.query(Criteria.where("chatId").in(staleChatIds)),
+                    Update.update("chatId", chatId), ChatMessage.class);
+        }
+
+        Map<String, List<ChatRoom>> roomsBySender = rooms.stream()
+                .collect(Collectors.groupingBy(ChatRoom::getSenderId, LinkedHashMap::new, Collectors.toList()));
+        roomsBySender.values().forEach(senderRooms -> {
+            ChatRoom kept = senderRooms.get(0);
+            Instant lastActivityAt = senderRooms.stream()
+                    .map(ChatRoom::getLastActivityAt)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(kept.getLastActivityAt());
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(kept.getId())),
+                    new Update().set("chatId", chatId).set("lastActivityAt", lastActivityAt), ChatRoom.class);
+
+            List<String> removedIds = senderRooms.subList(1, senderRooms.size()).stream().map(ChatRoom::getId).toList();
+            if (!removedIds.isEmpty()) {
+                mongoTemplate.remove(Query.query(Criteria.where("id").in(removedIds)), ChatRoom.class);
+            }
+        });
+    }
+
+    private boolean hasUniqueIndex(Class<?> document, String name) {
+        return mongoTemplate.indexOps(document).getIndexInfo().stream()
+                .anyMatch(index -> index.getName().equals(name) && index.isUnique());
+    }
+
+    // sentAt 도입 전 메시지는 ObjectId 에 들어 있는 생성 시각으로 채운다
+    // sentAt 으로 거르는 인덱스가 없어 전체를 훑는 갱신이므로, 끝나면 표식을 남겨 다음 기동부터는 건너뛴다
+    // 여러 인스턴스가 동시에 돌려도 같은 값을 채울 뿐이라 표식은 upsert 로 남긴다
+    private void backfillChatMessageSentAt() {
+        if (isMigrated(CHAT_MESSAGE_SENT_AT_MIGRATION)) {
+            return;
+        }
+        UpdateResult result = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatMessage.class))
+                .updateMany(Filters.and(Filters.exists("sentAt", false), Filters.type("_id", BsonType.OBJECT_ID)),
+                        List.of(new Document("$set", new Document("sentAt", new Document("$toDate", "$_id")))));
+        if (result.getModifiedCount() > 0) {
+            log.info("채팅 메시지 sentAt 채움: {}건", result.getModifiedCount());
+        }
+        markMigrated(CHAT_MESSAGE_SENT_AT_MIGRATION);
+    }
+
+    private boolean isMigrated(String migration) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(migration)), MIGRATIONS_COLLECTION);
+    }
+
+    private void markMigrated(String migration) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(migration)),
+                Update.update("appliedAt", Instant.now()), MIGRATIONS_COLLECTION);
+    }
+}
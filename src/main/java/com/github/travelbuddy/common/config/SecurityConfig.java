@@ -6,6 +6,7 @@ import com.github.travelbuddy.users.jwt.JWTFilter;
 import com.github.travelbuddy.users.jwt.JWTUtill;
 import com.github.travelbuddy.users.jwt.LoginFilter;
 import com.github.travelbuddy.users.service.CustomOAuth2UserService;
+import com.github.travelbuddy.users.service.ProfileVersionService;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtill jwtUtill;
+    private final ProfileVersionService profileVersionService;
     private final ChatUserService chatUserService;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomSuccessHandler customSuccessHandler;
@@ -100,9 +102,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/routes/*").permitAll()
                         .requestMatchers("/ws").permitAll()
                         .requestMatchers("/api/attend/*").permitAll()
+                        .requestMatchers("/files/**").permitAll()
                         .anyRequest().authenticated())
-                .addFilterAfter(new JWTFilter(jwtUtill), OAuth2LoginAuthenticationFilter.class)
-//                .addFilterBefore(new JWTFilter(jwtUtill), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JWTFilter(jwtUtill, profileVersionService), OAuth2LoginAuthenticationFilter.class)
+//                .addFilterBefore(new JWTFilter(jwtUtill, profileVersionService), UsernamePasswordAuthenticationFilter.class)
                 .sessionManagement((session) -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         LoginFilter loginFilter = new LoginFilter(authenticationManager(authenticationConfiguration),jwtUtill, chatUserService);
@@ -2,6 +2,7 @@ package com.github.travelbuddy.common.controller;
 
 import com.github.travelbuddy.board.dto.*;
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.service.BoardMainSnapshot;
 import com.github.travelbuddy.board.service.BoardService;
 import com.github.travelbuddy.users.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -23,17 +24,30 @@ import java.util.List;
 @Slf4j
 public class BoardController {
     private final BoardService boardService;
+    private final BoardMainSnapshot boardMainSnapshot;
 
 
     @GetMapping
-    public List<BoardAllDto> getAllBoards(
+    public BoardPageResponseDto<BoardAllDto> getAllBoards(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date endDate,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String order) {
+            @RequestParam(required = false, defaultValue = "desc") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("게시물 전체조회 API 실행");
-        return boardService.getAllBoards(category, startDate, endDate, sortBy, order);
+        return boardService.getAllBoards(category, startDate, endDate, sortBy, order, cursor, size);
+    }
+
+    @GetMapping("/search")
+    public BoardPageResponseDto<BoardAllDto> searchBoards(
+            @RequestParam String q,
+            @RequestParam(required = false) BoardEntity.Category category,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        log.info("게시물 검색 API 실행");
+        return boardService.searchBoards(q, category, page, size);
     }
 
     @GetMapping("/{postId}")
@@ -52,24 +66,29 @@ public class BoardController {
     @GetMapping("/my")
     public ResponseEntity<?> getBoardsByUserAndCategory(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @RequestParam(required = false , defaultValue = "REVIEW") BoardEntity.Category category) {
+            @RequestParam(required = false , defaultValue = "REVIEW") BoardEntity.Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
             log.info("내가 작성한 게시물 조회 API 실행");
-            BoardResponseDto<BoardSimpleDto> results = boardService.getBoardsByUserAndCategory(userDetails, category);
+            BoardPageResponseDto<BoardSimpleDto> results = boardService.getBoardsByUserAndCategory(userDetails, category, cursor, size);
             return ResponseEntity.status(HttpStatus.OK).body(results);
     }
 
     @GetMapping("/liked")
-    public ResponseEntity<BoardResponseDto<BoardAllDto>> getLikedPostsByUser(
+    public ResponseEntity<BoardPageResponseDto<BoardAllDto>> getLikedPostsByUser(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) BoardEntity.Category category,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date endDate,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String order) {
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("내가 추천한 게시물 조회 API 실행");
-        List<BoardAllDto> likedPosts = boardService.getLikedPostsByUser(userDetails, category, startDate, endDate, sortBy, order);
-        String message = likedPosts.isEmpty() ? "추천한 게시물이 없습니다." : "추천한 게시물을 성공적으로 조회했습니다.";
-        return ResponseEntity.ok(new BoardResponseDto<>(message, likedPosts));
+        BoardPageResponseDto<BoardAllDto> likedPosts = boardService.getLikedPostsByUser(userDetails, category, startDate, endDate, sortBy, order, cursor, size);
+        String message = likedPosts.getData().isEmpty() ? "추천한 게시물이 없습니다." : "추천한 게시물을 성공적으로 조회했습니다.";
+        likedPosts.setMessage(message);
+        return ResponseEntity.ok(likedPosts);
     }
 
     @PostMapping
@@ -109,22 +128,24 @@ public class BoardController {
     }
 
     @GetMapping("/participated")
-    public ResponseEntity<BoardResponseDto<BoardAllDto>> getParticipatedTripsByUser(
+    public ResponseEntity<BoardPageResponseDto<BoardAllDto>> getParticipatedTripsByUser(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam(required = false) BoardEntity.Category category,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date endDate,
             @RequestParam(required = false) String sortBy,
-            @RequestParam(required = false) String order) {
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("내가 참여한 여행 게시물 조회 API 실행");
-        BoardResponseDto<BoardAllDto> participatedTrips = boardService.getParticipatedTripsByUser(userDetails, category, startDate, endDate, sortBy, order);
+        BoardPageResponseDto<BoardAllDto> participatedTrips = boardService.getParticipatedTripsByUser(userDetails, category, startDate, endDate, sortBy, order, cursor, size);
         return ResponseEntity.ok(participatedTrips);
     }
 
     @GetMapping("/top4-categories")
     public ResponseEntity<BoardMainDto> getTop4BoardsByCategories() {
         log.info("메인 페이지 게시물 조회 API 실행");
-        BoardMainDto response = boardService.getTop4BoardsByCategories();
+        BoardMainDto response = boardMainSnapshot.get();
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -12,13 +12,14 @@ import com.github.travelbuddy.chat.service.ChatUserService;
 import com.github.travelbuddy.users.dto.CustomUserDetails;
 import com.github.travelbuddy.users.entity.UserEntity;
 import com.github.travelbuddy.users.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,13 +27,27 @@ import java.util.List;
 
 @Slf4j
 @RestController
-@RequiredArgsConstructor
 public class ChatController {
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatMessageService chatMessageService;
     private final ChatUserService chatUserService;
     private final ChatRoomService chatRoomService;
     private final UserRepository userRepository;
+    private final ThreadPoolTaskExecutor chatBroadcastExecutor;
+
+    public ChatController(SimpMessagingTemplate messagingTemplate,
+                          ChatMessageService chatMessageService,
+                          ChatUserService chatUserService,
+                          ChatRoomService chatRoomService,
+                          UserRepository userRepository,
+                          @Qualifier("chatBroadcastExecutor") ThreadPoolTaskExecutor chatBroadcastExecutor) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatMessageService = chatMessageService;
+        this.chatUserService = chatUserService;
+        this.chatRoomService = chatRoomService;
+        this.userRepository = userRepository;
+        this.chatBroadcastExecutor = chatBroadcastExecutor;
+    }
 
     @PostMapping("/api/chat/room/enter")
     public ResponseEntity<?> enterChatRoom(@RequestBody ChatRoomEnterDto chatRoomEnterDto) {
@@ -46,7 +61,10 @@ public class ChatController {
     }
 
     @GetMapping("/api/chat/room/{chatId}")
-    public ResponseEntity<?> getChatRoomData(@PathVariable String chatId, @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> getChatRoomData(@PathVariable String chatId,
+                                             @AuthenticationPrincipal CustomUserDetails userDetails,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size) {
         String senderId = String.valueOf(userDetails.getUserId());
         String opponentId = null;
         String idx0 = chatId.split("_")[0];
@@ -62,24 +80,37 @@ public class ChatController {
         String opponentName = opponentUserEntity.getName();
         String opponentProfile = opponentUserEntity.getProfilePictureUrl();
 
-        List<ChatMessage> chatMessages = chatMessageService.findChatMessages(chatId);
+        ChatMessageService.ChatMessagePage chatMessages = chatMessageService.findChatMessages(chatId, cursor, size);
 
         ChatRoomOpenResponse chatRoomOpenResponse = ChatRoomOpenResponse.builder()
                 .senderId(senderId)
                 .opponentName(opponentName)
                 .opponentId(opponentId)
                 .opponentProfile(opponentProfile)
-                .messages(chatMessages)
+                .opponentProfileThumbnail(opponentUserEntity.profileThumbnailOrPicture())
+                .opponentProfilePlaceholder(opponentUserEntity.getProfilePlaceholder())
+                .messages(chatMessages.messages())
+                .nextCursor(chatMessages.nextCursor())
+                .hasMore(chatMessages.hasMore())
                 .build();
 
         return ResponseEntity.status(HttpStatus.OK).body(chatRoomOpenResponse);
     }
 
+    // 저장 완료를 기다리지 않고 전송한다, ack-after-flush 모드면 저장된 뒤에 전송된다
+    // 전송은 별도 풀에서 해서 저장 스레드가 웹소켓 전송에 묶이지 않게 한다
     @MessageMapping("/chat/send")
     public void processMessage(@Payload ChatMessage chatMessage) {
-        ChatMessage savedMessage = chatMessageService.save(chatMessage);
+        chatMessageService.save(chatMessage)
+                .thenAcceptAsync(this::broadcast, chatBroadcastExecutor)
+                .exceptionally(e -> {
+                    log.error("채팅 메시지 저장 실패로 전송하지 않습니다: {}", chatMessage.getChatId(), e);
+                    return null;
+                });
+    }
 
-        String chatRoomId = chatMessage.getChatId();
+    private void broadcast(ChatMessage savedMessage) {
+        String chatRoomId = savedMessage.getChatId();
         String destination = "/subscribe/" + chatRoomId + "/queue/messages";
         messagingTemplate.convertAndSend(
                 destination,
@@ -94,9 +125,11 @@ public class ChatController {
     }
 
     @GetMapping("/api/chatRooms")
-    public ResponseEntity<?> getAllChatRooms(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> getAllChatRooms(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                             @RequestParam(required = false) Integer page,
+                                             @RequestParam(required = false) Integer size) {
         Integer userId = userDetails.getUserId();
-        List<GetAllRoomsForUserResponse> chatRoomsForUserResponse = chatRoomService.getAllChatRooms(userId);
+        List<GetAllRoomsForUserResponse> chatRoomsForUserResponse = chatRoomService.getAllChatRooms(userId, page, size);
 
         return ResponseEntity.status(HttpStatus.OK).body(chatRoomsForUserResponse);
     }
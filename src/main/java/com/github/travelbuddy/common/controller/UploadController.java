@@ -0,0 +1,46 @@
+package com.github.travelbuddy.common.controller;
+
+import com.github.travelbuddy.common.dto.PresignRequest;
+import com.github.travelbuddy.common.dto.PresignedUpload;
+import com.github.travelbuddy.common.dto.UploadConfirmRequest;
+import com.github.travelbuddy.common.service.DirectUploadService;
+import com.github.travelbuddy.users.dto.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class UploadController {
+    private final DirectUploadService directUploadService;
+
+    @PostMapping("/presign")
+    public ResponseEntity<List<PresignedUpload>> presign(@RequestBody PresignRequest request,
+                                                         @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(directUploadService.presign(userDetails.getUserId(), request));
+    }
+
+    @PostMapping("/boards/{postId}/confirm")
+    public ResponseEntity<List<String>> confirmBoardImages(@PathVariable Integer postId,
+                                                           @RequestBody UploadConfirmRequest request,
+                                                           @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(directUploadService.confirmBoardImages(userDetails.getUserId(), postId, request));
+    }
+
+    @PostMapping("/profile/confirm")
+    public ResponseEntity<String> confirmProfilePicture(@RequestBody UploadConfirmRequest request,
+                                                        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (request.getKeys() == null || request.getKeys().size() != 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "프로필 사진은 한 장만 등록할 수 있습니다.");
+        }
+        return ResponseEntity.ok(directUploadService.confirmProfilePicture(userDetails.getUserId(), request.getKeys().get(0)));
+    }
+}
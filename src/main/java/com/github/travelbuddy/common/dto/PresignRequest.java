@@ -0,0 +1,9 @@
+package com.github.travelbuddy.common.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PresignRequest {
+    private String contentType;
+    private Integer count;
+}
@@ -0,0 +1,15 @@
+package com.github.travelbuddy.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 클라이언트는 uploadUrl 로 같은 Content-Type 을 붙여 PUT 한 뒤 key 를 확인 요청에 보낸다
+@Getter
+@AllArgsConstructor
+public class PresignedUpload {
+    private String key;
+    private String uploadUrl;
+    private Instant expiresAt;
+}
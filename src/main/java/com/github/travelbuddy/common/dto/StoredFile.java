@@ -0,0 +1,14 @@
+package com.github.travelbuddy.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 저장소 목록 조회 결과 한 건
+@Getter
+@AllArgsConstructor
+public class StoredFile {
+    private String url;
+    private Instant lastModified;
+}
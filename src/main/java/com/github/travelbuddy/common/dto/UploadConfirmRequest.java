@@ -0,0 +1,10 @@
+package com.github.travelbuddy.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UploadConfirmRequest {
+    private List<String> keys;
+}
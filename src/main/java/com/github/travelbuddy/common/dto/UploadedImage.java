@@ -0,0 +1,29 @@
+package com.github.travelbuddy.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 업로드된 원본과 변환본 URL, 변환에 실패한 경우 변환본 URL 과 placeholder 는 null
+@Getter
+@AllArgsConstructor
+public class UploadedImage {
+    private String url;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private String placeholder;
+
+    public List<String> getAllUrls() {
+        List<String> urls = new ArrayList<>(3);
+        urls.add(url);
+        if (thumbnailUrl != null) {
+            urls.add(thumbnailUrl);
+        }
+        if (mediumUrl != null) {
+            urls.add(mediumUrl);
+        }
+        return urls;
+    }
+}
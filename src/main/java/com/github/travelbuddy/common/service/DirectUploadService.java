@@ -0,0 +1,193 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import com.github.travelbuddy.board.repository.BoardRepository;
+import com.github.travelbuddy.common.dto.PresignRequest;
+import com.github.travelbuddy.common.dto.PresignedUpload;
+import com.github.travelbuddy.common.dto.UploadConfirmRequest;
+import com.github.travelbuddy.common.dto.UploadedImage;
+import com.github.travelbuddy.postImage.repository.PostImageRepository;
+import com.github.travelbuddy.users.entity.UserEntity;
+import com.github.travelbuddy.users.repository.UserRepository;
+import com.github.travelbuddy.users.service.ProfileVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 이미지 바이트는 서명 URL 로 클라이언트가 저장소에 직접 올리고, 서버는 확인 단계에서 키만 검증해 기록한다
+// 변환본은 확인 응답 뒤에 처리 풀에서 만들어 채워 넣는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DirectUploadService {
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+    private static final String KEY_PREFIX = "uploads/";
+
+    private final StorageService storageService;
+    private final ImageUploadService imageUploadService;
+    private final BoardRepository boardRepository;
+    private final PostImageRepository postImageRepository;
+    private final UserRepository userRepository;
+    private final ProfileVersionService profileVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cloud.aws.s3.presign-ttl:10m}")
+    private Duration presignTtl;
+    @Value("${cloud.aws.s3.presign-max-count:10}")
+    private int maxCount;
+    @Value("${cloud.aws.s3.presign-max-size:10MB}")
+    private DataSize maxSize;
+    @Value("${profile.url}")
+    private String defaultProfileUrl;
+
+    public List<PresignedUpload> presign(Integer userId, PresignRequest request) {
+        String extension = request.getContentType() == null ? null : EXTENSIONS.get(request.getContentType());
+        if (extension == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지원하지 않는 이미지 형식입니다.");
+        }
+        int count = request.getCount() == null ? 1 : request.getCount();
+        if (count < 1 || count > maxCount) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 발급할 수 있는 업로드 URL 은 최대 " + maxCount + "개입니다.");
+        }
+
+        Instant expiresAt = Instant.now().plus(presignTtl);
+        List<PresignedUpload> uploads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String key = userPrefix(userId) + UUID.randomUUID() + extension;
+            String uploadUrl = storageService.generatePresignedPutUrl(key, request.getContentType(), Date.from(expiresAt));
+            uploads.add(new PresignedUpload(key, uploadUrl, expiresAt));
+        }
+        return uploads;
+    }
+
+    public List<String> confirmBoardImages(Integer userId, Integer postId, UploadConfirmRequest request) {
+        BoardEntity board = boardRepository.findById(postId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        if (!board.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "게시글을 수정할 권한이 없습니다.");
+        }
+        if (request.getKeys() == null || request.getKeys().isEmpty() || request.getKeys().size() > maxCount) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "확인할 이미지는 1개 이상 " + maxCount + "개 이하여야 합니다.");
+        }
+
+        Set<String> keys = new LinkedHashSet<>(request.getKeys());
+        List<String> urls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            verifyUploaded(userId, key);
+            urls.add(storageService.generateFileURL(key));
+        }
+
+        List<UploadedImage> images = urls.stream()
+                .map(url -> new UploadedImage(url, null, null, null))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!postImageRepository.findExistingUrls(urls).isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 등록된 이미지입니다.");
+            }
+            postImageRepository.insertAll(postId, images);
+            eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.UPDATED));
+        });
+
+        for (String url : urls) {
+            imageUploadService.generateVariantsAsync(url, true).whenComplete((image, e) -> {
+                if (e != null) {
+                    log.warn("직접 업로드 이미지 변환 실패, 원본만 사용합니다: {}", url, e);
+                    return;
+                }
+                if (image.getThumbnailUrl() == null) {
+                    return;
+                }
+                if (postImageRepository.updateVariants(url, image.getThumbnailUrl(), image.getMediumUrl(), image.getPlaceholder()) == 0) {
+                    // 변환 도중 이미지가 게시물에서 빠졌다
+                    List<String> variantUrls = image.getAllUrls();
+                    imageUploadService.deleteUrls(variantUrls.subList(1, variantUrls.size()));
+                    return;
+                }
+                eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.UPDATED));
+            });
+        }
+        return urls;
+    }
+
+    public String confirmProfilePicture(Integer userId, String key) {
+        verifyUploaded(userId, key);
+        String pictureUrl = storageService.generateFileURL(key);
+
+        // 사진 교체, 프로필 버전 증가, 이전 사진 참조 해제를 한 트랜잭션으로 묶어서 중간에 실패해도 이전 사진 참조가 남지 않게 한다
+        Boolean changed = transactionTemplate.execute(status -> {
+            UserEntity userEntity = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "유저를 찾을 수 없습니다."));
+            if (pictureUrl.equals(userEntity.getProfilePictureUrl())) {
+                return false;
+            }
+
+            userRepository.save(userEntity.toBuilder()
+                    .profilePictureUrl(pictureUrl)
+                    .profileThumbnailUrl(null)
+                    .profilePlaceholder(null)
+                    .build());
+            profileVersionService.bump(userId);
+            if (!userEntity.getProfilePictureUrl().equals(defaultProfileUrl)) {
+                imageUploadService.releaseAll(List.of(new UploadedImage(userEntity.getProfilePictureUrl(),
+                        userEntity.getProfileThumbnailUrl(), null, userEntity.getProfilePlaceholder())));
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(changed)) {
+            return pictureUrl;
+        }
+
+        imageUploadService.generateVariantsAsync(pictureUrl, false).whenComplete((image, e) -> {
+            if (e != null) {
+                log.warn("프로필 사진 변환 실패, 원본만 사용합니다: {}", pictureUrl, e);
+                return;
+            }
+            if (image.getThumbnailUrl() != null
+                    && userRepository.updateProfileVariants(userId, pictureUrl, image.getThumbnailUrl(), image.getPlaceholder()) == 0) {
+                imageUploadService.deleteUrls(List.of(image.getThumbnailUrl()));
+            }
+        });
+        return pictureUrl;
+    }
+
+    // 다른 사용자 경로의 키나 아직 올라오지 않은 키는 받지 않는다, 크기 제한을 넘긴 객체는 바로 지운다
+    private void verifyUploaded(Integer userId, String key) {
+        if (key == null || !key.startsWith(userPrefix(userId)) || key.contains("..")) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "업로드 권한이 없는 키입니다.");
+        }
+        Long contentLength = storageService.findContentLength(key);
+        if (contentLength == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드되지 않은 이미지입니다: " + key);
+        }
+        if (contentLength > maxSize.toBytes()) {
+            imageUploadService.deleteUrls(List.of(storageService.generateFileURL(key)));
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 크기가 너무 큽니다.");
+        }
+    }
+
+    private String userPrefix(Integer userId) {
+        return KEY_PREFIX + userId + "/";
+    }
+}
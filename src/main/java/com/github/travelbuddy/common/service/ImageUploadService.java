@@ -0,0 +1,254 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.dto.UploadedImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 여러 이미지를 업로드 풀에서 동시에 올리고, 하나라도 실패하면 이미 올라간 파일의 참조를 되돌린 뒤 예외를 던진다
+// 원본 업로드와 변환본 생성(처리 풀)은 병렬로 진행하고, 둘 다 끝나면 변환본을 원본 옆에 올린다
+// 원본은 SHA-256 내용 해시를 키로 저장해서, 이미 있는 내용이면 참조 수만 올리고 업로드와 변환을 모두 건너뛴다
+// 단, 중간 크기 없이 저장된 내용(프로필 사진)을 게시물에 올리면 중간 크기만 만들어 붙인다
+@Service
+@Slf4j
+public class ImageUploadService {
+    private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
+    private static final String MEDIUM_SUFFIX = "_medium.jpg";
+    private static final String JPEG = "image/jpeg";
+    private static final String KEY_PREFIX = "images/";
+    private static final int SWEEP_WAIT_ATTEMPTS = 40;
+    private static final Duration SWEEP_WAIT = Duration.ofMillis(250);
+
+    private final StorageService storageService;
+    private final ImageVariantService imageVariantService;
+    private final StoredObjectService storedObjectService;
+    private final StorageGarbageCollector storageGarbageCollector;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    public ImageUploadService(StorageService storageService,
+                              ImageVariantService imageVariantService,
+                              StoredObjectService storedObjectService,
+                              StorageGarbageCollector storageGarbageCollector,
+                              @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor,
+                              @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor imageProcessingExecutor) {
+        this.storageService = storageService;
+        this.imageVariantService = imageVariantService;
+        this.storedObjectService = storedObjectService;
+        this.storageGarbageCollector = storageGarbageCollector;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+    }
+
+    // 반환 순서는 입력 파일 순서와 같다
+    public List<UploadedImage> uploadAll(List<MultipartFile> files) throws IOException {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<UploadedImage>> uploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            uploads.add(upload(file, true));
+        }
+        return awaitAll(uploads);
+    }
+
+    // 프로필 사진은 작은 원형 아바타로만 쓰이므로 중간 크기 변환본은 만들지 않는다
+    public UploadedImage uploadProfilePicture(MultipartFile file) throws IOException {
+        return awaitAll(List.of(upload(file, false))).get(0);
+    }
+
+    // 클라이언트가 저장소에 직접 올린 원본을 내려받아 변환본만 만들어 올린다, 디코딩할 수 없는 이미지는 원본만 남긴다
+    public CompletableFuture<UploadedImage> generateVariantsAsync(String originalUrl, boolean withMedium) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return imageVariantService.generate(storageService.download(storageService.getKey(originalUrl)), withMedium);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, imageProcessingExecutor).thenApplyAsync(variants -> putVariants(originalUrl, variants), imageUploadExecutor);
+    }
+
+    // 참조를 내리고 stored_objects 에 없는 객체만 삭제 예약한다, 내용 주소 객체는 묘비로 남아 수집기가 지운다
+    // 트랜잭션 안에서 부르면 참조 수 변경과 삭제 예약이 그 트랜잭션과 함께 커밋된다
+    public void releaseAll(List<UploadedImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        List<String> urls = new ArrayList<>();
+        for (UploadedImage image : storedObjectService.release(images)) {
+            urls.addAll(image.getAllUrls());
+        }
+        deleteUrls(urls);
+    }
+
+    // 실제 삭제는 StorageGarbageCollector 가 모아서 처리한다
+    public void deleteUrls(List<String> urls) {
+        storageGarbageCollector.schedule(urls);
+    }
+
+    private CompletableFuture<UploadedImage> upload(MultipartFile file, boolean withMedium) {
+        return CompletableFuture.supplyAsync(() -> hash(file), imageUploadExecutor)
+                .thenCompose(contentHash -> {
+                    UploadedImage existing = acquire(contentHash);
+                    if (existing != null) {
+                        // 썸네일도 없으면 변환할 수 없는 이미지라 중간 크기도 만들 수 없다
+                        return withMedium && existing.getMediumUrl() == null && existing.getThumbnailUrl() != null
+                                ? attachMedium(file, contentHash, existing)
+                                : CompletableFuture.completedFuture(existing);
+                    }
+                    return store(file, contentHash, withMedium)
+                            .thenApply(image -> storedObjectService.register(contentHash, image, file.getSize()));
+                });
+    }
+
+    // 수집기가 같은 내용의 묘비를 지우는 중이면 끝날 때까지 기다렸다가 새로 올린다, 같은 키에 새로 올린 파일이 그 삭제에 지워지지 않게 한다
+    private UploadedImage acquire(String contentHash) {
+        for (int attempt = 1; ; attempt++) {
+            UploadedImage existing = storedObjectService.acquire(contentHash);
+            if (existing != null || !storedObjectService.isSweeping(contentHash)) {
+                return existing;
+            }
+            if (attempt == SWEEP_WAIT_ATTEMPTS) {
+                throw new IllegalStateException("같은 이미지를 정리하는 중입니다. 잠시 후 다시 시도해 주세요.");
+            }
+            try {
+                Thread.sleep(SWEEP_WAIT.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이미지 업로드 대기 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    // 변환본 키는 원본 URL 에서 정해지므로 동시에 붙여도 같은 파일을 덮어쓸 뿐이다, 실패하면 중간 크기 없이 진행한다
+    private CompletableFuture<UploadedImage> attachMedium(MultipartFile file, String contentHash, UploadedImage existing) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return imageVariantService.generateMedium(file.getBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, imageProcessingExecutor).thenApplyAsync(medium -> {
+            if (medium == null) {
+                return existing;
+            }
+            String mediumUrl = storageService.uploadVariant(existing.getUrl(), MEDIUM_SUFFIX, medium, JPEG);
+            return storedObjectService.attachMedium(contentHash, mediumUrl);
+        }, imageUploadExecutor).exceptionally(e -> {
+            // 참조는 이미 올라갔으므로 실패로 돌려보내지 않고 기존 변환본을 쓴다
+            log.warn("중간 크기 변환본 추가 실패, 기존 변환본만 사용합니다.", e);
+            return existing;
+        });
+    }
+
+    private CompletableFuture<UploadedImage> store(MultipartFile file, String contentHash, boolean withMedium) {
+        CompletableFuture<String> original = CompletableFuture.supplyAsync(() -> {
+            try {
+                return storageService.uploadFile(KEY_PREFIX + contentHash + extension(file), file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, imageUploadExecutor);
+
+        CompletableFuture<ImageVariantService.ImageVariants> variants = CompletableFuture.supplyAsync(() -> {
+            try {
+                return imageVariantService.generate(file.getBytes(), withMedium);
+            } catch (IOException e) {
+                log.warn("이미지 읽기 실패, 원본만 사용합니다.", e);
+                return null;
+            }
+        }, imageProcessingExecutor);
+
+        return original.thenCombineAsync(variants, this::uploadVariants, imageUploadExecutor);
+    }
+
+    private String hash(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String extension(MultipartFile file) {
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        if (extension == null || !extension.matches("[A-Za-z0-9]{1,5}")) {
+            return "";
+        }
+        return "." + extension.toLowerCase(Locale.ROOT);
+    }
+
+    private UploadedImage uploadVariants(String originalUrl, ImageVariantService.ImageVariants variants) {
+        try {
+            return putVariants(originalUrl, variants);
+        } catch (RuntimeException e) {
+            deleteUrls(List.of(originalUrl));
+            throw e;
+        }
+    }
+
+    // 실패하면 이번에 올린 변환본만 지운다, 원본 정리는 호출한 쪽 몫
+    private UploadedImage putVariants(String originalUrl, ImageVariantService.ImageVariants variants) {
+        if (variants == null) {
+            return new UploadedImage(originalUrl, null, null, null);
+        }
+
+        List<String> uploaded = new ArrayList<>();
+        try {
+            String thumbnailUrl = storageService.uploadVariant(originalUrl, THUMBNAIL_SUFFIX, variants.thumbnail(), JPEG);
+            uploaded.add(thumbnailUrl);
+            String mediumUrl = variants.medium() == null ? null
+                    : storageService.uploadVariant(originalUrl, MEDIUM_SUFFIX, variants.medium(), JPEG);
+            return new UploadedImage(originalUrl, thumbnailUrl, mediumUrl, variants.placeholder());
+        } catch (RuntimeException e) {
+            deleteUrls(uploaded);
+            throw e;
+        }
+    }
+
+    private List<UploadedImage> awaitAll(List<CompletableFuture<UploadedImage>> uploads) throws IOException {
+        List<UploadedImage> images = new ArrayList<>(uploads.size());
+        Throwable failure = null;
+        for (CompletableFuture<UploadedImage> upload : uploads) {
+            try {
+                images.add(upload.join());
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+
+        if (failure != null) {
+            releaseAll(images);
+            if (failure instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("이미지 업로드에 실패했습니다.", failure);
+        }
+        return images;
+    }
+}
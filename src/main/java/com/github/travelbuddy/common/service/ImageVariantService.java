@@ -0,0 +1,154 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.util.BlurHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+// 원본 이미지에서 목록용 썸네일, 상세용 중간 크기 JPEG 와 BlurHash 미리보기를 만든다
+@Service
+@Slf4j
+public class ImageVariantService {
+    private static final int PLACEHOLDER_SOURCE_SIZE = 32;
+
+    @Value("${image.variant.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${image.variant.medium-size:960}")
+    private int mediumSize;
+
+    @Value("${image.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    // 파일 크기가 작아도 선언한 해상도가 크면 디코딩에 수 GB 가 필요하므로, 헤더의 가로세로로 먼저 거른다
+    @Value("${image.variant.max-pixels:40000000}")
+    private long maxPixels;
+
+    // 이미지로 읽을 수 없는 파일이면 null, 원본 업로드는 그대로 진행된다
+    public ImageVariants generate(byte[] original, boolean withMedium) {
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return null;
+            }
+            BufferedImage rgb = toRgb(source);
+            byte[] thumbnail = writeJpeg(resize(rgb, thumbnailSize));
+            byte[] medium = withMedium ? writeJpeg(resize(rgb, mediumSize)) : null;
+            String placeholder = BlurHash.encode(resize(rgb, PLACEHOLDER_SOURCE_SIZE), 4, 3);
+            return new ImageVariants(thumbnail, medium, placeholder);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 변환 실패, 원본만 사용합니다.", e);
+            return null;
+        }
+    }
+
+    // 중간 크기 없이 저장된 원본에 나중에 중간 크기만 붙일 때 쓴다, 읽을 수 없으면 null
+    public byte[] generateMedium(byte[] original) {
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return null;
+            }
+            return writeJpeg(resize(toRgb(source), mediumSize));
+        } catch (IOException | RuntimeException e) {
+            log.warn("중간 크기 변환 실패, 기존 변환본만 사용합니다.", e);
+            return null;
+        }
+    }
+
+    // 해상도 제한을 넘거나 읽을 수 있는 리더가 없으면 null
+    private BufferedImage read(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("이미지 해상도가 너무 커서 변환하지 않습니다: {}x{}", reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변 기준으로 축소, 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠 줄인다
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, source.getWidth(), source.getHeight());
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return target;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    public record ImageVariants(byte[] thumbnail, byte[] medium, String placeholder) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.dto.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 오프라인/사내 배포와 업로드 경로 벤치마크용 로컬 디스크 저장소, 파일은 FileController 가 /files/** 로 내려준다
+// 서명 URL 은 S3 와 같은 흐름을 흉내 내기 위해 HMAC 으로 키, Content-Type, 만료 시각을 묶는다
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+    private static final String HMAC = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final long maxPutSize;
+    private final byte[] signingKey;
+
+    public LocalStorageService(@Value("${storage.local.root:./storage}") String root,
+                               @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl,
+                               @Value("${storage.local.max-put-size:10MB}") DataSize maxPutSize,
+                               @Value("${storage.local.secret:}") String secret) throws IOException {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.replaceAll("/+$", "");
+        this.maxPutSize = maxPutSize.toBytes();
+        if (secret.isBlank()) {
+            log.warn("storage.local.secret 이 없어 임의 키로 서명합니다. 재시작하면 발급된 업로드 URL 은 무효가 됩니다.");
+            this.signingKey = new byte[32];
+            new SecureRandom().nextBytes(this.signingKey);
+        } else {
+            this.signingKey = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        Files.createDirectories(this.root);
+    }
+
+    @Override
+    public String uploadFile(String key, MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            write(key, in, Long.MAX_VALUE);
+        }
+        return generateFileURL(key);
+    }
+
+    @Override
+    public String uploadVariant(String originalUrl, String suffix, byte[] data, String contentType) {
+        String key = getKey(originalUrl) + suffix;
+        try {
+            write(key, new ByteArrayInputStream(data), Long.MAX_VALUE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return generateFileURL(key);
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        try {
+            Files.deleteIfExists(resolve(getKey(fileUrl)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteFiles(List<String> fileUrls) {
+        List<String> failed = new ArrayList<>();
+        for (String url : fileUrls) {
+            try {
+                deleteFile(url);
+            } catch (RuntimeException e) {
+                log.warn("로컬 파일 삭제 실패: {}", url, e);
+                failed.add(url);
+            }
+        }
+        return failed;
+    }
+
+    // 쓰는 중인 임시 파일은 건너뛴다
+    @Override
+    public void listFiles(String prefix, boolean recursive, Consumer<StoredFile> consumer) {
+        Path start = prefix.isEmpty() ? root : resolve(prefix);
+        if (!Files.isDirectory(start)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(start, recursive ? Integer.MAX_VALUE : 1)) {
+            paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(".upload-"))
+                    .forEach(path -> {
+                        try {
+                            String key = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+                            consumer.accept(new StoredFile(generateFileURL(key), Files.getLastModifiedTime(path).toInstant()));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String generatePresignedPutUrl(String key, String contentType, Date expiration) {
+        long expires = expiration.getTime() / 1000;
+        return generateFileURL(key) + "?expires=" + expires + "&signature=" + sign(key, contentType, expires);
+    }
+
+    @Override
+    public Long findContentLength(String key) {
+        Path path = resolve(key);
+        try {
+            return Files.isRegularFile(path) ? Files.size(path) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] download(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public String getKey(String fileUrl) {
+        String prefix = baseUrl + "/";
+        return fileUrl.startsWith(prefix) ? fileUrl.substring(prefix.length()) : fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    }
+
+    @Override
+    public String generateFileURL(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    public boolean verifySignature(String key, String contentType, long expires, String signature) {
+        if (expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // 서명된 PUT 본문 저장, 제한 크기를 넘으면 중간에 끊고 아무것도 남기지 않는다
+    public void store(String key, InputStream in) throws IOException {
+        write(key, in, maxPutSize);
+    }
+
+    // 저장소 밖을 가리키는 키(../ 등)는 거절한다
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    // 임시 파일에 다 쓴 뒤 이름을 바꿔서 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다
+    private void write(String key, InputStream in, long limit) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[8192];
+                long written = 0;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    written += read;
+                    if (written > limit) {
+                        throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 크기가 너무 큽니다.");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String sign(String key, String contentType, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(signingKey, HMAC));
+            byte[] signature = mac.doFinal(("PUT\n" + key + "\n" + contentType + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.travelbuddy.common.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.util.IOUtils;
+import com.github.travelbuddy.common.dto.StoredFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageService implements StorageService {
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final AmazonS3Client amazonS3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${cloud.aws.region.static}")
+    private String region;
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+    @Override
+    public String uploadFile(String key, MultipartFile file) throws IOException {
+        amazonS3Client.putObject(bucket, key, file.getInputStream(),getObjectMetadata(file));
+        return generateFileURL(key);
+    }
+    @Override
+    public String uploadVariant(String originalUrl, String suffix, byte[] data, String contentType) {
+        String fileName = getKey(originalUrl) + suffix;
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(data.length);
+        amazonS3Client.putObject(bucket, fileName, new ByteArrayInputStream(data), objectMetadata);
+        return generateFileURL(fileName);
+    }
+    @Override
+    public void deleteFile(String fileUrl) {
+        amazonS3Client.deleteObject(bucket, getKey(fileUrl));
+    }
+    // DeleteObjects 한 번에 최대 1000개
+    @Override
+    public List<String> deleteFiles(List<String> fileUrls) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < fileUrls.size(); from += MAX_DELETE_KEYS) {
+            Map<String, String> urlsByKey = new HashMap<>();
+            for (String url : fileUrls.subList(from, Math.min(from + MAX_DELETE_KEYS, fileUrls.size()))) {
+                urlsByKey.put(getKey(url), url);
+            }
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(urlsByKey.keySet().toArray(new String[0]))
+                    .withQuiet(true);
+            try {
+                amazonS3Client.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    log.warn("S3 객체 삭제 실패: {} {}", error.getKey(), error.getCode());
+                    failed.add(urlsByKey.get(error.getKey()));
+                }
+            } catch (RuntimeException e) {
+                log.warn("S3 일괄 삭제 요청 실패 ({}건)", urlsByKey.size(), e);
+                failed.addAll(urlsByKey.values());
+            }
+        }
+        return failed;
+    }
+    @Override
+    public void listFiles(String prefix, boolean recursive, Consumer<StoredFile> consumer) {
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket).withPrefix(prefix);
+        if (!recursive) {
+            request.setDelimiter("/");
+        }
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3Client.listObjectsV2(request);
+            for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                consumer.accept(new StoredFile(generateFileURL(summary.getKey()), summary.getLastModified().toInstant()));
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+    @Override
+    public String generatePresignedPutUrl(String key, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(expiration);
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+    @Override
+    public Long findContentLength(String key) {
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, key).getContentLength();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+    @Override
+    public byte[] download(String key) throws IOException {
+        try (S3Object object = amazonS3Client.getObject(bucket, key)) {
+            return IOUtils.toByteArray(object.getObjectContent());
+        }
+    }
+    @Override
+    public String getKey(String fileUrl) {
+        String prefix = generateFileURL("");
+        return fileUrl.startsWith(prefix) ? fileUrl.substring(prefix.length()) : fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+    }
+    @Override
+    public String generateFileURL(String key) {
+        if (!endpoint.isBlank()) {
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucket, key);
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucket, region, key);
+    }
+    private ObjectMetadata getObjectMetadata(MultipartFile file) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(file.getContentType());
+        objectMetadata.setContentLength(file.getSize());
+        return objectMetadata;
+    }
+}
@@ -0,0 +1,254 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.dto.StoredFile;
+import com.github.travelbuddy.storedObject.entity.PendingDeletionEntity;
+import com.github.travelbuddy.storedObject.entity.StoredObjectEntity;
+import com.github.travelbuddy.storedObject.repository.PendingDeletionRepository;
+import com.github.travelbuddy.storedObject.repository.StoredObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 저장소 객체 삭제는 요청 흐름에서 하지 않고 pending_deletions 에 예약만 한다
+// 수집기는 예약된 URL 을 묶어서 한 번에 지우고, 실패한 것은 지수 백오프로 다시 시도한다
+// 지우기 직전에 DB 참조를 다시 확인하므로, 예약 뒤에 같은 내용이 다시 등록된 객체는 남는다
+// 내용 주소 객체는 예약 대신 stored_objects 묘비 행에 sweeping_since 를 찍어 집고, 그동안 같은 내용을 올리는 업로드는 되살리지 않고 기다린다
+// 어느 쪽이든 행을 집는 것과 결과 기록만 짧은 트랜잭션으로 하고, 저장소 삭제는 트랜잭션 밖에서 해서 커넥션과 행 잠금을 오래 잡지 않는다
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StorageGarbageCollector {
+    private static final List<String> OWNED_PREFIXES = List.of("images/", "uploads/");
+    // 내용 주소 저장 전 S3Service 가 쓰던 "{UUID}-{원본 파일명}" 키와 그 변환본
+    private static final Pattern LEGACY_KEY =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}-[^/]+");
+
+    private final PendingDeletionRepository pendingDeletionRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.gc.batch-size:500}")
+    private int batchSize;
+    @Value("${storage.gc.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${storage.gc.max-backoff:1h}")
+    private Duration maxBackoff;
+    // 참조가 0 이 된 직후 같은 내용이 다시 올라오는 경우를 위해 묘비는 잠시 남겨 둔다
+    @Value("${storage.gc.tombstone-grace:10m}")
+    private Duration tombstoneGrace;
+    // 집은 뒤 이 시간 안에 결과를 기록하지 못하면(인스턴스 종료 등) 다른 실행이 다시 집는다
+    @Value("${storage.gc.claim-lease:5m}")
+    private Duration claimLease;
+    // 직접 업로드 후 확인 전이거나 업로드 중 DB 기록 전인 객체를 건드리지 않도록 충분히 오래된 것만 정리
+    @Value("${storage.gc.reconcile-grace:24h}")
+    private Duration reconcileGrace;
+    // 기본은 고아 객체를 찾아 로그만 남긴다, DELETE 로 바꿔야 실제로 삭제 예약한다
+    @Value("${storage.gc.reconcile-mode:DRY_RUN}")
+    private ReconcileMode reconcileMode;
+    @Value("${profile.url}")
+    private String defaultProfileUrl;
+
+    // 호출한 트랜잭션에 참여해서, 행 삭제가 롤백되면 예약도 같이 롤백된다
+    @Transactional
+    public void schedule(Collection<String> urls) {
+        List<String> targets = urls.stream()
+                .filter(url -> url != null && !url.equals(defaultProfileUrl))
+                .distinct()
+                .collect(Collectors.toList());
+        pendingDeletionRepository.enqueueAll(targets);
+    }
+
+    @Scheduled(initialDelayString = "${storage.gc.initial-delay-ms:30000}",
+            fixedDelayString = "${storage.gc.interval-ms:60000}")
+    public void collect() {
+        int collected = 0;
+        int claimed;
+        do {
+            claimed = sweepTombstones();
+            collected += claimed;
+        } while (claimed == batchSize);
+        do {
+            claimed = collectBatch();
+            collected += claimed;
+        } while (claimed == batchSize);
+        if (collected > 0) {
+            log.info("저장소 삭제 예약 {}건 처리", collected);
+        }
+    }
+
+    // 이 앱이 만든 키(images/, uploads/, 예전 방식 최상위 "{uuid}-파일명")만 훑어서 DB 어디서도 참조하지 않는 오래된 객체를 찾는다
+    // 버킷의 다른 자산은 목록에 올리지도 않는다
+    @Scheduled(initialDelayString = "${storage.gc.reconcile-initial-delay-ms:600000}",
+            fixedDelayString = "${storage.gc.reconcile-interval-ms:86400000}")
+    public void reconcile() {
+        if (reconcileMode == ReconcileMode.OFF) {
+            return;
+        }
+        Instant threshold = Instant.now().minus(reconcileGrace);
+        List<String> candidates = new ArrayList<>(batchSize);
+        int[] orphaned = {0};
+        Consumer<StoredFile> collector = file -> {
+            if (file.getLastModified().isAfter(threshold) || file.getUrl().equals(defaultProfileUrl)) {
+                return;
+            }
+            candidates.add(file.getUrl());
+            if (candidates.size() == batchSize) {
+                orphaned[0] += handleOrphans(candidates);
+                candidates.clear();
+            }
+        };
+        for (String prefix : OWNED_PREFIXES) {
+            storageService.listFiles(prefix, true, collector);
+        }
+        storageService.listFiles("", false, file -> {
+            if (LEGACY_KEY.matcher(storageService.getKey(file.getUrl())).matches()) {
+                collector.accept(file);
+            }
+        });
+        orphaned[0] += handleOrphans(candidates);
+        if (orphaned[0] > 0) {
+            log.warn("참조되지 않는 저장소 객체 {}건 {}", orphaned[0],
+                    reconcileMode == ReconcileMode.DELETE ? "삭제 예약" : "발견 (dry-run, 삭제하지 않음)");
+        }
+    }
+
+    private int collectBatch() {
+        List<PendingDeletionEntity> due = transactionTemplate.execute(status -> {
+            List<PendingDeletionEntity> claimed = pendingDeletionRepository.findDueForUpdate(batchSize);
+            LocalDateTime leaseUntil = LocalDateTime.now().plus(claimLease);
+            claimed.forEach(pending -> pending.lease(leaseUntil));
+            return claimed;
+        });
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> urls = due.stream().map(PendingDeletionEntity::getUrl).collect(Collectors.toSet());
+        Set<String> referenced = pendingDeletionRepository.findReferencedUrls(urls);
+        List<String> targets = urls.stream()
+                .filter(url -> !referenced.contains(url))
+                .collect(Collectors.toList());
+        Set<String> failed = targets.isEmpty() ? Set.of() : new HashSet<>(storageService.deleteFiles(targets));
+
+        List<Integer> done = new ArrayList<>();
+        List<PendingDeletionEntity> retried = new ArrayList<>();
+        for (PendingDeletionEntity pending : due) {
+            if (!failed.contains(pending.getUrl())) {
+                done.add(pending.getId());
+            } else if (pending.getAttempts() + 1 >= maxAttempts) {
+                log.error("저장소 객체 삭제 {}회 실패, 예약을 포기합니다: {}", maxAttempts, pending.getUrl());
+                done.add(pending.getId());
+            } else {
+                pending.retryAt(LocalDateTime.now().plus(backoff(pending.getAttempts())));
+                retried.add(pending);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            pendingDeletionRepository.deleteAllByIdInBatch(done);
+            pendingDeletionRepository.saveAll(retried);
+        });
+        return due.size();
+    }
+
+    // 묘비 행을 집어 두고 커밋한 뒤 객체를 지우고, 다 지운 행만 삭제한다
+    // 집힌 동안 같은 해시를 acquire 하려는 업로드는 행을 되살리지 않고 수집이 끝나기를 기다렸다가 새로 올린다
+    // 삭제에 실패한 객체가 있는 행은 표시를 풀어 다음 실행에서 다시 시도한다
+    private int sweepTombstones() {
+        List<StoredObjectEntity> released = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<StoredObjectEntity> claimed = storedObjectRepository.findReleasedForUpdate(
+                    now.minus(tombstoneGrace), now.minus(claimLease), batchSize);
+            claimed.forEach(storedObject -> storedObject.startSweeping(now));
+            return claimed;
+        });
+        if (released == null || released.isEmpty()) {
+            return 0;
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (StoredObjectEntity storedObject : released) {
+            urls.addAll(urlsOf(storedObject));
+        }
+        Set<String> failed = new HashSet<>(storageService.deleteFiles(urls));
+
+        List<Integer> sweptIds = new ArrayList<>();
+        List<Integer> unsweptIds = new ArrayList<>();
+        List<String> sweptUrls = new ArrayList<>();
+        for (StoredObjectEntity storedObject : released) {
+            List<String> objectUrls = urlsOf(storedObject);
+            if (objectUrls.stream().noneMatch(failed::contains)) {
+                sweptIds.add(storedObject.getId());
+                sweptUrls.addAll(objectUrls);
+            } else {
+                log.warn("묘비 객체 삭제 실패, 다음에 다시 시도합니다: {}", storedObject.getUrl());
+                unsweptIds.add(storedObject.getId());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sweptIds.isEmpty()) {
+                storedObjectRepository.deleteSwept(sweptIds);
+            }
+            if (!unsweptIds.isEmpty()) {
+                storedObjectRepository.clearSweeping(unsweptIds);
+            }
+            // 행이 사라진 뒤 남은 예약이 같은 키로 새로 올라온 객체를 지우지 않도록 함께 정리한다
+            pendingDeletionRepository.deleteByUrls(sweptUrls);
+        });
+        return released.size();
+    }
+
+    private List<String> urlsOf(StoredObjectEntity storedObject) {
+        List<String> urls = new ArrayList<>(3);
+        urls.add(storedObject.getUrl());
+        if (storedObject.getThumbnailUrl() != null) {
+            urls.add(storedObject.getThumbnailUrl());
+        }
+        if (storedObject.getMediumUrl() != null) {
+            urls.add(storedObject.getMediumUrl());
+        }
+        return urls;
+    }
+
+    private int handleOrphans(List<String> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Set<String> referenced = pendingDeletionRepository.findReferencedUrls(candidates);
+        List<String> orphans = candidates.stream()
+                .filter(url -> !referenced.contains(url))
+                .collect(Collectors.toList());
+        if (reconcileMode == ReconcileMode.DELETE) {
+            // 자기 자신을 부르면 @Transactional 이 적용되지 않으므로 트랜잭션을 직접 연다
+            transactionTemplate.executeWithoutResult(status -> schedule(orphans));
+        } else {
+            orphans.forEach(url -> log.info("참조되지 않는 저장소 객체 (dry-run): {}", url));
+        }
+        return orphans.size();
+    }
+
+    public enum ReconcileMode {
+        OFF, DRY_RUN, DELETE
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = Duration.ofMinutes(1L << Math.min(attempts, 16));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.dto.StoredFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 이미지 저장소 추상화, storage.type 으로 S3(s3, 기본값) 와 로컬 디스크(local) 중 하나가 빈으로 올라간다
+// 키는 저장소 안의 경로, URL 은 클라이언트가 그대로 내려받을 수 있는 주소
+public interface StorageService {
+    // 키는 호출한 쪽이 정한다(내용 해시 기반), 같은 키로 다시 올리면 덮어쓴다
+    String uploadFile(String key, MultipartFile file) throws IOException;
+
+    // 변환본은 원본 키 뒤에 접미사를 붙여 같은 위치에 저장
+    String uploadVariant(String originalUrl, String suffix, byte[] data, String contentType);
+
+    void deleteFile(String fileUrl);
+
+    // 여러 객체를 가능한 한 적은 요청으로 지우고, 지우지 못한 URL 을 돌려준다
+    List<String> deleteFiles(List<String> fileUrls);
+
+    // prefix 아래 객체를 훑는다, recursive 가 false 면 prefix 바로 아래 객체만 본다, DB 와의 정합성 점검용
+    void listFiles(String prefix, boolean recursive, Consumer<StoredFile> consumer);
+
+    // 클라이언트가 앱 서버를 거치지 않고 직접 올릴 수 있는 PUT 서명 URL, Content-Type 도 서명에 포함된다
+    String generatePresignedPutUrl(String key, String contentType, Date expiration);
+
+    // 객체가 없으면 null
+    Long findContentLength(String key);
+
+    byte[] download(String key) throws IOException;
+
+    String getKey(String fileUrl);
+
+    String generateFileURL(String key);
+}
@@ -0,0 +1,78 @@
+package com.github.travelbuddy.common.service;
+
+import com.github.travelbuddy.common.dto.UploadedImage;
+import com.github.travelbuddy.storedObject.entity.StoredObjectEntity;
+import com.github.travelbuddy.storedObject.repository.StoredObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 내용 주소 저장 객체의 참조 수 관리, 저장소 호출은 하지 않고 DB 만 다룬다
+// stored_objects 에 없는 URL(이전 방식 업로드, 직접 업로드, 기본 프로필)은 참조 수 없이 단독 소유로 본다
+@Service
+@RequiredArgsConstructor
+public class StoredObjectService {
+    private final StoredObjectRepository storedObjectRepository;
+
+    // 이미 저장된 내용이면 참조를 하나 늘리고 기존 URL 을 돌려준다, 처음 보는 내용이면 null
+    @Transactional
+    public UploadedImage acquire(String contentHash) {
+        if (storedObjectRepository.incrementRefCount(contentHash) == 0) {
+            return null;
+        }
+        return storedObjectRepository.findByContentHash(contentHash)
+                .map(this::toUploadedImage)
+                .orElse(null);
+    }
+
+    // 수집기가 이 내용의 묘비를 지우는 중이라 acquire 가 되살리지 못한 경우
+    @Transactional(readOnly = true)
+    public boolean isSweeping(String contentHash) {
+        return storedObjectRepository.existsByContentHashAndSweepingSinceIsNotNull(contentHash);
+    }
+
+    // 새로 올린 내용을 참조 1 로 기록한다, 동시에 같은 내용이 먼저 기록됐으면 그 행을 돌려준다
+    @Transactional
+    public UploadedImage register(String contentHash, UploadedImage image, long size) {
+        storedObjectRepository.insertOrIncrement(contentHash, image.getUrl(), image.getThumbnailUrl(),
+                image.getMediumUrl(), image.getPlaceholder(), size);
+        return storedObjectRepository.findByContentHash(contentHash)
+                .map(this::toUploadedImage)
+                .orElse(image);
+    }
+
+    // 프로필 사진처럼 중간 크기 없이 먼저 저장된 내용에 나중에 만든 중간 크기를 기록한다
+    @Transactional
+    public UploadedImage attachMedium(String contentHash, String mediumUrl) {
+        storedObjectRepository.attachMediumUrl(contentHash, mediumUrl);
+        return storedObjectRepository.findByContentHash(contentHash)
+                .map(this::toUploadedImage)
+                .orElseThrow(() -> new IllegalStateException("저장 객체가 없습니다: " + contentHash));
+    }
+
+    // 참조를 하나씩 내리고, stored_objects 에 없어서 바로 지워도 되는 이미지 목록을 돌려준다
+    // 마지막 참조가 빠진 내용 주소 객체는 묘비로 남겨 두고 StorageGarbageCollector 가 지운다
+    // 호출한 트랜잭션에 참여하므로 게시물 이미지 행 삭제와 함께 롤백된다
+    @Transactional
+    public List<UploadedImage> release(List<UploadedImage> images) {
+        List<UploadedImage> unreferenced = new ArrayList<>();
+        for (UploadedImage image : images) {
+            Optional<StoredObjectEntity> storedObject = storedObjectRepository.findByUrlForUpdate(image.getUrl());
+            if (storedObject.isEmpty()) {
+                unreferenced.add(image);
+            } else if (storedObject.get().getRefCount() > 0) {
+                storedObject.get().decrementRefCount();
+            }
+        }
+        return unreferenced;
+    }
+
+    private UploadedImage toUploadedImage(StoredObjectEntity storedObject) {
+        return new UploadedImage(storedObject.getUrl(), storedObject.getThumbnailUrl(),
+                storedObject.getMediumUrl(), storedObject.getPlaceholder());
+    }
+}
@@ -5,12 +5,14 @@ import com.github.travelbuddy.users.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(name = "uk_likes_user_post", columnNames = {"user_id", "post_id"}))
 @ToString
 public class LikesEntity {
     @Id
@@ -24,4 +26,13 @@ public class LikesEntity {
     @ManyToOne
     @JoinColumn(name = "post_id")
     private BoardEntity board;
+
+    // 이 컬럼이 생기기 전의 좋아요는 null
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
 }
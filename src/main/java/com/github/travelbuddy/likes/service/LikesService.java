@@ -1,6 +1,7 @@
 package com.github.travelbuddy.likes.service;
 
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
 import com.github.travelbuddy.board.repository.BoardRepository;
 import com.github.travelbuddy.likes.entity.LikesEntity;
 import com.github.travelbuddy.likes.repository.LikesRepository;
@@ -10,9 +11,14 @@ import com.github.travelbuddy.users.entity.UserEntity;
 import com.github.travelbuddy.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 
 
 @Service
@@ -22,8 +28,20 @@ public class LikesService {
     private final LikesRepository likesRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
+    // 유니크 제약 위반은 트랜잭션을 롤백 전용으로 만들므로 트랜잭션 밖에서 잡아 409 로 바꾼다
     public ResponseEntity<?> processLike(Integer postId, Integer userId, String method) {
+        try {
+            return transactionTemplate.execute(status -> applyLike(postId, userId, method));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 좋아요가 동시에 들어와 둘 다 존재 확인을 통과하면 늦은 쪽이 (user_id, post_id) 유니크 제약에 걸린다
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("ALREADY LIKE");
+        }
+    }
+
+    private ResponseEntity<?> applyLike(Integer postId, Integer userId, String method) {
         if (method.equals("POST")) {
             UserEntity userEntity = userRepository.findById(userId)
                     .orElseThrow(() -> new RuntimeException("아이디 " + userId + " 를 찾을 수 없습니다."));
@@ -41,6 +59,8 @@ public class LikesService {
                     .build();
 
             likesRepository.save(likesEntity);
+            boardRepository.incrementLikeCount(postId);
+            eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.LIKE_ADDED));
 
             LikeResponse likeResponse = new LikeResponse();
             likeResponse.setUserId(userId);
@@ -53,6 +73,10 @@ public class LikesService {
         if (method.equals("DELETE")) {
             LikesEntity likesEntity = likesRepository.findByUserIdAndBoardId(userId, postId);
             likesRepository.delete(likesEntity);
+            boardRepository.decrementLikeCount(postId);
+            // 시각이 없는 이전 좋아요는 인기 점수 초기화 때처럼 게시물 작성 시각에 받은 것으로 본다
+            LocalDateTime likedAt = likesEntity.getCreatedAt() != null ? likesEntity.getCreatedAt() : likesEntity.getBoard().getCreatedAt();
+            eventPublisher.publishEvent(new BoardChangedEvent(postId, BoardChangedEvent.Type.LIKE_REMOVED, likedAt));
 
             LikeResponse likeResponse = new LikeResponse();
             likeResponse.setUserId(userId);
@@ -81,7 +105,7 @@ public class LikesService {
         BoardEntity boardEntity = boardRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시물 " + postId + " 를 찾을 수 없습니다."));
 
-        Integer likeCount = likesRepository.countAllByBoard(boardEntity);
+        Integer likeCount = boardEntity.getLikeCount().intValue();
 
         LikeInfoResponse likeInfoResponse = LikeInfoResponse.builder()
                 .count(likeCount)
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "post_imgs")
+@Table(name = "post_imgs", indexes = @Index(name = "idx_post_imgs_url", columnList = "url"))
 public class PostImageEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -23,4 +23,14 @@ public class PostImageEntity {
 
     @Column(nullable = false, length = 255)
     private String url;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 255)
+    private String mediumUrl;
+
+    // BlurHash 미리보기 문자열
+    @Column(name = "placeholder", length = 64)
+    private String placeholder;
 }
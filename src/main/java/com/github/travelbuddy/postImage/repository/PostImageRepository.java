@@ -3,13 +3,31 @@ package com.github.travelbuddy.postImage.repository;
 import com.github.travelbuddy.board.entity.BoardEntity;
 import com.github.travelbuddy.postImage.entity.PostImageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface PostImageRepository extends JpaRepository<PostImageEntity , Integer> {
+public interface PostImageRepository extends JpaRepository<PostImageEntity , Integer>, PostImageRepositoryCustom {
     List<PostImageEntity> findAllByBoard(BoardEntity board);
 
     void deleteAllByBoard(BoardEntity board);
+
+    @Query("SELECT pi.url FROM PostImageEntity pi WHERE pi.url IN :urls")
+    List<String> findExistingUrls(@Param("urls") Collection<String> urls);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostImageEntity pi " +
+            "SET pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl, pi.placeholder = :placeholder " +
+            "WHERE pi.url = :url")
+    int updateVariants(@Param("url") String url,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl,
+                       @Param("placeholder") String placeholder);
 }
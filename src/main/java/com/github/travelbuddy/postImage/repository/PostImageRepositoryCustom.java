@@ -0,0 +1,9 @@
+package com.github.travelbuddy.postImage.repository;
+
+import com.github.travelbuddy.common.dto.UploadedImage;
+
+import java.util.List;
+
+public interface PostImageRepositoryCustom {
+    void insertAll(Integer boardId, List<UploadedImage> images);
+}
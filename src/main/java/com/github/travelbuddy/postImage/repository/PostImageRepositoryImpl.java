@@ -0,0 +1,29 @@
+package com.github.travelbuddy.postImage.repository;
+
+import com.github.travelbuddy.common.dto.UploadedImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostImageRepositoryImpl implements PostImageRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 키라 JPA saveAll 은 행마다 INSERT 가 나가므로 JDBC 배치로 한 번에 보낸다
+    @Override
+    public void insertAll(Integer boardId, List<UploadedImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_imgs (post_id, url, thumbnail_url, medium_url, placeholder) VALUES (?, ?, ?, ?, ?)",
+                images, images.size(),
+                (statement, image) -> {
+                    statement.setInt(1, boardId);
+                    statement.setString(2, image.getUrl());
+                    statement.setString(3, image.getThumbnailUrl());
+                    statement.setString(4, image.getMediumUrl());
+                    statement.setString(5, image.getPlaceholder());
+                });
+    }
+}
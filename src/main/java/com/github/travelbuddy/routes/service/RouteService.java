@@ -12,15 +12,23 @@ import com.github.travelbuddy.routes.repository.RouteRepository;
 import com.github.travelbuddy.users.entity.UserEntity;
 import com.github.travelbuddy.users.repository.UserRepository;
 import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
 import com.github.travelbuddy.board.repository.BoardRepository;
 import com.github.travelbuddy.comment.repository.CommentRepository;
+import com.github.travelbuddy.common.dto.UploadedImage;
+import com.github.travelbuddy.common.service.ImageUploadService;
+import com.github.travelbuddy.common.service.SingleFlight;
 import com.github.travelbuddy.likes.repository.LikesRepository;
+import com.github.travelbuddy.postImage.entity.PostImageEntity;
 import com.github.travelbuddy.postImage.repository.PostImageRepository;
 import com.github.travelbuddy.trip.entity.TripEntity;
 import com.github.travelbuddy.trip.repository.TripRepository;
 import com.github.travelbuddy.usersInTravel.repository.UsersInTravelRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +49,10 @@ public class RouteService {
     private final LikesRepository likesRepository;
     private final UsersInTravelRepository usersInTravelRepository;
     private final TripRepository tripRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight singleFlight;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
     public RouteService(RouteRepository routeRepository,
                         RouteDayRepository routeDayRepository,
@@ -52,7 +64,11 @@ public class RouteService {
                         CommentRepository commentRepository,
                         LikesRepository likesRepository,
                         UsersInTravelRepository usersInTravelRepository,
-                        TripRepository tripRepository) {
+                        TripRepository tripRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        SingleFlight singleFlight,
+                        ImageUploadService imageUploadService,
+                        TransactionTemplate transactionTemplate) {
         this.routeRepository = routeRepository;
         this.routeDayRepository = routeDayRepository;
         this.routeDayPlaceRepository = routeDayPlaceRepository;
@@ -64,6 +80,11 @@ public class RouteService {
         this.likesRepository = likesRepository;
         this.usersInTravelRepository = usersInTravelRepository;
         this.tripRepository = tripRepository;
+        this.eventPublisher = eventPublisher;
+        this.singleFlight = singleFlight;
+        this.imageUploadService = imageUploadService;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     public RouteDto createRouteWithDaysAndPlaces(RouteDto routeDto, Integer userId) {
@@ -98,6 +119,7 @@ public class RouteService {
                 routeDayPlaceRepository.save(routeDayPlace);
             }
         }
+        publishRouteUpdated(route);
 
         return routeMapper.toRouteDto(route);
     }
@@ -113,6 +135,7 @@ public class RouteService {
         route.setTitle(routePutDto.getTitle());
         route.setDescription(routePutDto.getDescription());
         routeRepository.save(route);
+        publishRouteUpdated(route);
 
         return routeMapper.toRoutePutDto(route);
     }
@@ -152,18 +175,36 @@ public class RouteService {
                 usersInTravelRepository.deleteAllByTrip(trip);
                 tripRepository.delete(trip);
             }
+            List<PostImageEntity> images = postImageRepository.findAllByBoard(board);
             postImageRepository.deleteAllByBoard(board);
+            imageUploadService.releaseAll(images.stream()
+                    .map(image -> new UploadedImage(image.getUrl(), image.getThumbnailUrl(), image.getMediumUrl(), image.getPlaceholder()))
+                    .collect(Collectors.toList()));
             commentRepository.deleteAllByBoard(board);
             likesRepository.deleteAllByBoard(board);
             boardRepository.delete(board);
+            eventPublisher.publishEvent(new BoardChangedEvent(board.getId(), BoardChangedEvent.Type.DELETED));
         }
         routeRepository.delete(route);
     }
 
+    private void publishRouteUpdated(RouteEntity route) {
+        if (route.getBoards() == null) {
+            return;
+        }
+        for (BoardEntity board : route.getBoards()) {
+            eventPublisher.publishEvent(new BoardChangedEvent(board.getId(), BoardChangedEvent.Type.ROUTE_UPDATED));
+        }
+    }
+
+    // 합쳐진 요청이 리더를 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션은 리더의 조회에만 건다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<RouteDto> getRoutesByUserId(Integer userId) {
-        List<RouteEntity> routeEntities = routeRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId);
-        return routeEntities.stream()
-                .map(routeMapper::toRouteDto)
-                .collect(Collectors.toList());
+        return singleFlight.execute("routesByUser", userId, () -> readOnlyTransactionTemplate.execute(status -> {
+            List<RouteEntity> routeEntities = routeRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId);
+            return routeEntities.stream()
+                    .map(routeMapper::toRouteDto)
+                    .collect(Collectors.toList());
+        }));
     }
 }
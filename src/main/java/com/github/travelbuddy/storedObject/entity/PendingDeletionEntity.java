@@ -0,0 +1,43 @@
+package com.github.travelbuddy.storedObject.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 저장소에서 지워야 할 객체, 행을 지운 트랜잭션과 같이 기록되고 StorageGarbageCollector 가 모아서 지운다
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "pending_deletions", indexes = @Index(name = "idx_pending_deletions_next_attempt_at", columnList = "next_attempt_at"))
+public class PendingDeletionEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "url", length = 255, nullable = false, unique = true)
+    private String url;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 다른 수집기가 같은 행을 집지 않도록 삭제가 끝날 때까지 다음 시도 시각을 미뤄 둔다
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
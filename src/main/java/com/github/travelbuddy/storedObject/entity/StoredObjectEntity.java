@@ -0,0 +1,67 @@
+package com.github.travelbuddy.storedObject.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 내용 해시로 저장된 이미지 원본과 변환본, ref_count 는 이 객체를 가리키는 게시물 이미지/프로필 수
+// 참조가 0 이 되어도 행은 지우지 않고 released_at 을 찍어 둔다(묘비), 수집기가 sweeping_since 를 찍어 집은 뒤 저장소 객체와 행을 지운다
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "stored_objects", indexes = {
+        @Index(name = "idx_stored_objects_released", columnList = "ref_count, released_at")
+})
+public class StoredObjectEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // SHA-256 hex
+    @Column(name = "content_hash", length = 64, nullable = false, unique = true)
+    private String contentHash;
+
+    @Column(name = "url", length = 255, nullable = false, unique = true)
+    private String url;
+
+    @Column(name = "thumbnail_url", length = 255)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 255)
+    private String mediumUrl;
+
+    @Column(name = "placeholder", length = 64)
+    private String placeholder;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    // 수집기가 저장소 객체를 지우는 중이면 집은 시각, 이 동안에는 같은 내용을 다시 참조하지 않는다
+    @Column(name = "sweeping_since")
+    private LocalDateTime sweepingSince;
+
+    public void startSweeping(LocalDateTime now) {
+        this.sweepingSince = now;
+    }
+
+    public void decrementRefCount() {
+        this.refCount--;
+        if (this.refCount == 0) {
+            this.releasedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.travelbuddy.storedObject.repository;
+
+import com.github.travelbuddy.storedObject.entity.PendingDeletionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PendingDeletionRepository extends JpaRepository<PendingDeletionEntity, Integer>, PendingDeletionRepositoryCustom {
+
+    // 여러 인스턴스가 같은 행을 동시에 집지 않도록 잠긴 행은 건너뛴다
+    @Query(value = "SELECT * FROM pending_deletions WHERE next_attempt_at <= NOW() " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PendingDeletionEntity> findDueForUpdate(@Param("limit") int limit);
+}
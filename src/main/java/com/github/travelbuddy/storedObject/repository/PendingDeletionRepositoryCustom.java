@@ -0,0 +1,15 @@
+package com.github.travelbuddy.storedObject.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface PendingDeletionRepositoryCustom {
+    // 이미 예약된 URL 은 무시한다
+    void enqueueAll(Collection<String> urls);
+
+    void deleteByUrls(Collection<String> urls);
+
+    // 게시물 이미지, 프로필, 내용 주소 객체 중 어디선가 아직 쓰고 있는 URL
+    // 내용 주소 객체는 묘비 행이라도 참조 중으로 본다, 그 객체는 묘비 수집에서만 지운다
+    Set<String> findReferencedUrls(Collection<String> urls);
+}
@@ -0,0 +1,55 @@
+package com.github.travelbuddy.storedObject.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class PendingDeletionRepositoryImpl implements PendingDeletionRepositoryCustom {
+    private static final String REFERENCED_URLS =
+            "SELECT url FROM post_imgs WHERE url IN (:urls) " +
+            "UNION SELECT thumbnail_url FROM post_imgs WHERE thumbnail_url IN (:urls) " +
+            "UNION SELECT medium_url FROM post_imgs WHERE medium_url IN (:urls) " +
+            "UNION SELECT profile_picture_url FROM users WHERE profile_picture_url IN (:urls) " +
+            "UNION SELECT profile_thumbnail_url FROM users WHERE profile_thumbnail_url IN (:urls) " +
+            "UNION SELECT url FROM stored_objects WHERE url IN (:urls) " +
+            "UNION SELECT thumbnail_url FROM stored_objects WHERE thumbnail_url IN (:urls) " +
+            "UNION SELECT medium_url FROM stored_objects WHERE medium_url IN (:urls)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public void enqueueAll(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        List<String> rows = new ArrayList<>(urls);
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO pending_deletions (url, attempts, next_attempt_at, created_at) VALUES (?, 0, NOW(), NOW())",
+                rows, rows.size(),
+                (statement, url) -> statement.setString(1, url));
+    }
+
+    @Override
+    public void deleteByUrls(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update("DELETE FROM pending_deletions WHERE url IN (:urls)", Map.of("urls", urls));
+    }
+
+    @Override
+    public Set<String> findReferencedUrls(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(REFERENCED_URLS, Map.of("urls", urls), String.class));
+    }
+}
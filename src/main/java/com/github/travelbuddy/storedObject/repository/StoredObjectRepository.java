@@ -0,0 +1,69 @@
+package com.github.travelbuddy.storedObject.repository;
+
+import com.github.travelbuddy.storedObject.entity.StoredObjectEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredObjectRepository extends JpaRepository<StoredObjectEntity, Integer> {
+    Optional<StoredObjectEntity> findByContentHash(String contentHash);
+
+    boolean existsByUrl(String url);
+
+    // 유예 시간이 지난 묘비 중 아직 아무도 집지 않았거나, 집은 수집기가 lease 안에 끝내지 못한 것만 잠근다
+    @Query(value = "SELECT * FROM stored_objects WHERE ref_count = 0 AND released_at <= :before " +
+            "AND (sweeping_since IS NULL OR sweeping_since <= :staleBefore) " +
+            "ORDER BY released_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StoredObjectEntity> findReleasedForUpdate(@Param("before") LocalDateTime before,
+                                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                                   @Param("limit") int limit);
+
+    boolean existsByContentHashAndSweepingSinceIsNotNull(String contentHash);
+
+    // 지우는 동안 참조가 되살아난 행은 남긴다
+    @Modifying
+    @Query("DELETE FROM StoredObjectEntity s WHERE s.id IN :ids AND s.refCount = 0")
+    int deleteSwept(@Param("ids") Collection<Integer> ids);
+
+    // 저장소 삭제에 실패한 묘비는 다음 실행에서 다시 집도록 표시를 푼다
+    @Modifying
+    @Query("UPDATE StoredObjectEntity s SET s.sweepingSince = NULL WHERE s.id IN :ids")
+    int clearSweeping(@Param("ids") Collection<Integer> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredObjectEntity s WHERE s.url = :url")
+    Optional<StoredObjectEntity> findByUrlForUpdate(@Param("url") String url);
+
+    // 수집기가 지우는 중인 묘비는 되살리지 않는다
+    @Modifying
+    @Query("UPDATE StoredObjectEntity s SET s.refCount = s.refCount + 1, s.releasedAt = NULL " +
+            "WHERE s.contentHash = :contentHash AND s.sweepingSince IS NULL")
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    // 중간 크기 없이 저장된 행에만 붙인다, 동시에 먼저 붙인 쪽이 있으면 그 값을 그대로 둔다
+    @Modifying
+    @Query("UPDATE StoredObjectEntity s SET s.mediumUrl = :mediumUrl WHERE s.contentHash = :contentHash AND s.mediumUrl IS NULL")
+    int attachMediumUrl(@Param("contentHash") String contentHash, @Param("mediumUrl") String mediumUrl);
+
+    // 같은 내용을 동시에 처음 올린 경우 먼저 들어간 행의 참조 수만 올린다
+    @Modifying
+    @Query(value = "INSERT INTO stored_objects (content_hash, url, thumbnail_url, medium_url, placeholder, size, ref_count, created_at) " +
+            "VALUES (:contentHash, :url, :thumbnailUrl, :mediumUrl, :placeholder, :size, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, released_at = NULL", nativeQuery = true)
+    int insertOrIncrement(@Param("contentHash") String contentHash,
+                          @Param("url") String url,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl,
+                          @Param("placeholder") String placeholder,
+                          @Param("size") Long size);
+}
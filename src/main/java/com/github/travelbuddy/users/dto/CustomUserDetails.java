@@ -1,9 +1,11 @@
 package com.github.travelbuddy.users.dto;
 
+import com.github.travelbuddy.users.enums.Role;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -17,11 +19,18 @@ public class CustomUserDetails implements UserDetails {
     private final Integer userId;
     private final String username;
     private final String password;
+    // 아래는 JWT 클레임에서 채워진다, 신원 정보만 필요한 곳은 DB 를 다시 읽지 않아도 된다
+    private final String name;
+    private final Role role;
+    private final Integer profileVersion;
 
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of();
+        if (role == null) {
+            return List.of();
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
@@ -16,4 +16,6 @@ public class UserInfoResponse {
     private String residentNum;
     private Gender gender;
     private String profilePictureUrl;
+    private String profileThumbnailUrl;
+    private String profilePlaceholder;
 }
@@ -0,0 +1,13 @@
+package com.github.travelbuddy.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다른 사용자 이름/프로필만 보여줄 때 쓰는 읽기 프로젝션, UserRepository 생성자 표현식과 필드 순서가 같아야 한다
+@Getter
+@AllArgsConstructor
+public class UserSummaryRow {
+    private Integer id;
+    private String name;
+    private String profilePictureUrl;
+}
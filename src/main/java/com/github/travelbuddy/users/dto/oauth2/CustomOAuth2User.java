@@ -1,5 +1,6 @@
 package com.github.travelbuddy.users.dto.oauth2;
 
+import com.github.travelbuddy.users.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -31,4 +32,12 @@ public class CustomOAuth2User implements OAuth2User {
         return userDto.getUserId();
     }
 
+    public Role getRole(){
+        return userDto.getRole();
+    }
+
+    public Integer getProfileVersion(){
+        return userDto.getProfileVersion();
+    }
+
 }
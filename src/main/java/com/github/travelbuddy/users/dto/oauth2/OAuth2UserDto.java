@@ -1,5 +1,6 @@
 package com.github.travelbuddy.users.dto.oauth2;
 
+import com.github.travelbuddy.users.enums.Role;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,4 +10,6 @@ public class OAuth2UserDto {
     private Integer userId;
     private String name;
     private String email;
+    private Role role;
+    private Integer profileVersion;
 }
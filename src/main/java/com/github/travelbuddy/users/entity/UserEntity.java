@@ -42,6 +42,12 @@ public class UserEntity {
     @Column(name = "profile_picture_url", length = 255)
     private String profilePictureUrl;
 
+    @Column(name = "profile_thumbnail_url", length = 255)
+    private String profileThumbnailUrl;
+
+    @Column(name = "profile_placeholder", length = 64)
+    private String profilePlaceholder;
+
     @Column(name = "status", columnDefinition = "ENUM('ACTIVE', 'DELETED') DEFAULT 'ACTIVE'")
     @Enumerated(EnumType.STRING)
     private Status status;
@@ -52,4 +58,13 @@ public class UserEntity {
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
+
+    // JWT 에 실린 이름/역할/프로필이 최신인지 판단하는 번호, 프로필이나 역할이 바뀔 때마다 올린다
+    @Column(name = "profile_version", columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer profileVersion;
+
+    // 작은 아바타 자리에 쓸 이미지, 썸네일이 없는 이전 업로드나 기본 프로필은 원본을 쓴다
+    public String profileThumbnailOrPicture() {
+        return profileThumbnailUrl != null ? profileThumbnailUrl : profilePictureUrl;
+    }
 }
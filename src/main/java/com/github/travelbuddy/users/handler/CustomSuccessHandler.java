@@ -26,7 +26,8 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         Integer userId = customUserDetails.getUserId();
 
-        String token = jwtUtill.createJwt(userId,60*60*1000L);
+        String token = jwtUtill.createJwt(userId, customUserDetails.getName(), customUserDetails.getRole(),
+                customUserDetails.getProfileVersion(), 60*60*1000L);
 
         response.sendRedirect("https://travelbuddy1.vercel.app/oauth2-jwt?token=Bearer "+token);
     }
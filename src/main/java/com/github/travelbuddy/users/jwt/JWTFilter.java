@@ -1,41 +1,43 @@
 package com.github.travelbuddy.users.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.travelbuddy.users.dto.CustomUserDetails;
+import com.github.travelbuddy.users.service.ProfileVersionService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.HashMap;
-import java.util.Map;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
+    // 응답 본문이 고정이라 미리 직렬화해 둔다
+    private static final String EXPIRED_RESPONSE = "{\"message\":\"access token is expired\"}";
+
     private final JWTUtill jwtUtill;
+    private final ProfileVersionService profileVersionService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
-        System.out.println("JWTFilter");
         String authorization = request.getHeader("Authorization");
 
         //Authorization 헤더 검증
         if(authorization == null || !authorization.startsWith("Bearer ")) {
-            System.out.println("token null");
+            log.debug("token null");
 
             //request,response를 다음 필터로 넘겨줌
             filterChain.doFilter(request, response);
@@ -45,46 +47,33 @@ public class JWTFilter extends OncePerRequestFilter {
 
         //Bearer부분 제거
         String token = authorization.split(" ")[1];
-//    try {
-
-//        if (jwtUtill.isExpired(token)) {
-//            filterChain.doFilter(request, response);
-//            return;
-//        }
 
+        // 서명 검증과 만료 확인을 한 번의 파싱(또는 캐시 조회)으로 끝낸다
+        Claims claims;
         try {
-            jwtUtill.isExpired(token);
+            claims = jwtUtill.verify(token);
         }catch (ExpiredJwtException e) {
-
-            Map<String, String> responseBody = new HashMap<>();
-            responseBody.put("message", "access token is expired");
-
-            PrintWriter writer = response.getWriter();
-//            writer.println("access token expired");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            String jsonResponse = objectMapper.writeValueAsString(responseBody);
-
-            response.setContentType("application/json;charset=UTF-8");
-
-            response.getWriter().write(jsonResponse);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write(EXPIRED_RESPONSE);
             return;
         }
 
-        Integer userId = jwtUtill.getUserId(token);
+        CustomUserDetails customUserDetails = jwtUtill.toUserDetails(claims);
+        // 토큰 발급 뒤 이름/역할/프로필이 바뀌었으면 클레임 대신 DB 의 현재 값을 쓴다
+        if (!profileVersionService.isCurrent(customUserDetails.getUserId(), customUserDetails.getProfileVersion())) {
+            customUserDetails = profileVersionService.loadUserDetails(customUserDetails.getUserId());
+            if (customUserDetails == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
 
-        System.out.println("userId: " + userId);
-        CustomUserDetails customUserDetails = CustomUserDetails.builder()
-                .userId(userId)
-                .build();
+        log.debug("userId: {}", customUserDetails.getUserId());
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-//    }catch (SignatureException e) {
-//        System.err.println("Invalid token");
-//    }
         filterChain.doFilter(request, response);
     }
 }
@@ -1,27 +1,88 @@
 package com.github.travelbuddy.users.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.travelbuddy.users.dto.CustomUserDetails;
+import com.github.travelbuddy.users.enums.Role;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWTUtill {
 
     private final SecretKey secretKey;
+    // 파서는 불변이라 하나만 만들어 재사용
+    private final JwtParser parser;
+    // 서명 검증을 통과한 토큰의 클레임, 키는 토큰 원문 대신 SHA-256 다이제스트
+    // 항목은 설정한 TTL 과 토큰의 exp 중 먼저 오는 시각에 만료된다
+    private final Cache<String, Claims> verifiedTokens;
 
-    private JWTUtill(@Value("${spring.jwt.secret}")String secret) {
+    private JWTUtill(@Value("${spring.jwt.secret}")String secret,
+                     @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                     @Value("${jwt.verified-cache.max-ttl:10m}") Duration maxTtl,
+                     MeterRegistry meterRegistry) {
 
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long untilExpiration = TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExpiration, maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
+    }
+
+    // 요청당 한 번만 파싱, 만료됐으면 ExpiredJwtException, 서명이 틀리면 JwtException
+    public Claims verify(String token) {
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() == null) {
+            return claims;
+        }
+        verifiedTokens.put(digest, claims);
+        return claims;
     }
 
     public Integer getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", Integer.class);
+        return verify(token).get("userId", Integer.class);
     }
 
     public Boolean isExpired(String token) {
@@ -31,17 +92,38 @@ public class JWTUtill {
 //            System.err.println("Token is expired");
 //            return true;
 //        }
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return verify(token).getExpiration().before(new Date());
     }
 
     //단일토큰
-    public String createJwt(Integer userId, Long expiredMs){
+    // 이름, 역할, 프로필 버전을 함께 실어서 신원 정보만 필요한 요청은 DB 를 읽지 않게 한다
+    public String createJwt(Integer userId, String name, Role role, Integer profileVersion, Long expiredMs){
         return Jwts.builder()
                 .claim("userId",userId)
+                .claim("name", name)
+                .claim("role", role == null ? Role.USER.name() : role.name())
+                .claim("pv", profileVersion == null ? 0 : profileVersion)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis()+expiredMs))
                 .signWith(secretKey)
                 .compact();
     }
 
+    public CustomUserDetails toUserDetails(Claims claims) {
+        String role = claims.get("role", String.class);
+        return CustomUserDetails.builder()
+                .userId(claims.get("userId", Integer.class))
+                .name(claims.get("name", String.class))
+                .role(role == null ? null : Role.valueOf(role))
+                .profileVersion(claims.get("pv", Integer.class))
+                .build();
+    }
+
+    private String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
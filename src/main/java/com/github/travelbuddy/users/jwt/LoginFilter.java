@@ -51,7 +51,8 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
 //        String token = jwtUtill.createJwt(userId,5*60*60*1000L);
 
-        String token = jwtUtill.createJwt(userId,60*60*1000L);
+        String token = jwtUtill.createJwt(userId, customUserDetails.getName(), customUserDetails.getRole(),
+                customUserDetails.getProfileVersion(), 60*60*1000L);
 
 //        response.setHeader("access", access);
 //        response.addCookie(createCookie("refresh",refresh));
@@ -1,8 +1,16 @@
 package com.github.travelbuddy.users.repository;
 
+import com.github.travelbuddy.users.dto.UserSummaryRow;
 import com.github.travelbuddy.users.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Integer> {
@@ -15,4 +23,26 @@ public interface UserRepository extends JpaRepository<UserEntity, Integer> {
     Boolean existsByEmailAndPhoneNum(String email, String phoneNum);
 
     UserEntity findByName(String username);
+
+    @Query("SELECT new com.github.travelbuddy.users.dto.UserSummaryRow(u.id, u.name, u.profilePictureUrl) " +
+            "FROM UserEntity u WHERE u.id IN :ids")
+    List<UserSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 변환 중에 프로필 사진이 다시 바뀌었으면 갱신하지 않는다
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u " +
+            "SET u.profileThumbnailUrl = :thumbnailUrl, u.profilePlaceholder = :placeholder " +
+            "WHERE u.id = :userId AND u.profilePictureUrl = :pictureUrl")
+    int updateProfileVariants(@Param("userId") Integer userId,
+                              @Param("pictureUrl") String pictureUrl,
+                              @Param("thumbnailUrl") String thumbnailUrl,
+                              @Param("placeholder") String placeholder);
+
+    @Query("SELECT u.profileVersion FROM UserEntity u WHERE u.id = :userId")
+    Integer findProfileVersionById(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.profileVersion = COALESCE(u.profileVersion, 0) + 1 WHERE u.id = :userId")
+    int incrementProfileVersion(@Param("userId") Integer userId);
 }
@@ -7,6 +7,7 @@ import com.github.travelbuddy.users.dto.oauth2.OAuth2Response;
 import com.github.travelbuddy.users.dto.oauth2.OAuth2UserDto;
 import com.github.travelbuddy.users.entity.UserEntity;
 import com.github.travelbuddy.users.enums.Gender;
+import com.github.travelbuddy.users.enums.Role;
 import com.github.travelbuddy.users.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -26,6 +28,7 @@ import java.time.LocalDateTime;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final ProfileVersionService profileVersionService;
 
     @Value("${profile.url}")
     private String defaultProfileUrl;
@@ -89,20 +92,32 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             userDto.setUserId(userEntity.getId());
             userDto.setName(oauth2Response.getName());
             userDto.setEmail(oauth2Response.getEmail());
+            userDto.setRole(Role.USER);
+            userDto.setProfileVersion(0);
 
             return new CustomOAuth2User(userDto);
         }else{
             log.info("소셜로그인 처음아님");
+            boolean nameChanged = !oauth2Response.getName().equals(existData.getName());
             UserEntity userEntity = existData.toBuilder()
                     .name(oauth2Response.getName())
                     .phoneNum(withoutCountryCode)
                     .build();
             userRepository.save(userEntity);
 
+            int profileVersion = Objects.requireNonNullElse(userEntity.getProfileVersion(), 0);
+            // 카카오 쪽 이름이 바뀌었으면 이전에 발급한 토큰의 이름 클레임을 무효로 한다
+            if (nameChanged) {
+                profileVersionService.bump(userEntity.getId());
+                profileVersion++;
+            }
+
             OAuth2UserDto userDto = new OAuth2UserDto();
             userDto.setUserId(userEntity.getId());
             userDto.setName(oauth2Response.getName());
             userDto.setEmail(userEntity.getEmail());
+            userDto.setRole(userEntity.getRole());
+            userDto.setProfileVersion(profileVersion);
 
             return new CustomOAuth2User(userDto);
         }
@@ -21,7 +21,14 @@ public class CustomUserDetailsService implements UserDetailsService {
         UserEntity userData = userRepository.findByEmail(email);
 
         if(userData != null) {
-            return new CustomUserDetails(userData.getId(), userData.getEmail(), userData.getPassword());
+            return CustomUserDetails.builder()
+                    .userId(userData.getId())
+                    .username(userData.getEmail())
+                    .password(userData.getPassword())
+                    .name(userData.getName())
+                    .role(userData.getRole())
+                    .profileVersion(userData.getProfileVersion())
+                    .build();
         }else {
             throw new UsernameNotFoundException(email);
         }
@@ -0,0 +1,99 @@
+package com.github.travelbuddy.users.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.travelbuddy.users.dto.CustomUserDetails;
+import com.github.travelbuddy.users.entity.UserEntity;
+import com.github.travelbuddy.users.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+
+// JWT 클레임(이름, 역할, 프로필)의 유효성을 users.profile_version 으로 판단한다
+// 현재 버전은 짧게 캐시하므로 요청마다 DB 를 읽지 않고, 버전이 어긋난 토큰만 DB 에서 신원 정보를 다시 채운다
+// 다른 인스턴스에서 올린 버전은 캐시 TTL 안에 반영된다
+// 다시 채운 신원 정보도 (userId, 버전) 으로 캐시해 오래된 토큰이 만료될 때까지 매 요청 DB 를 읽지 않게 한다
+@Slf4j
+@Service
+public class ProfileVersionService {
+    private final UserRepository userRepository;
+    private final Cache<Integer, Integer> versions;
+    private final Cache<DetailsKey, CustomUserDetails> details;
+
+    public ProfileVersionService(UserRepository userRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${jwt.profile-version-cache.max-size:100000}") long maxSize,
+                                 @Value("${jwt.profile-version-cache.ttl:1m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "profileVersion");
+        // 버전이 오르면 키가 달라지므로 옛 항목은 더 조회되지 않고 크기/TTL 로 밀려난다
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "profileDetails");
+    }
+
+    public boolean isCurrent(Integer userId, Integer tokenVersion) {
+        if (tokenVersion == null) {
+            return false;
+        }
+        return tokenVersion.equals(currentVersion(userId));
+    }
+
+    // 클레임이 오래된 토큰은 DB 의 현재 값으로 신원 정보를 만든다, 탈퇴 등으로 사용자가 없으면 null
+    public CustomUserDetails loadUserDetails(Integer userId) {
+        CustomUserDetails cached = details.getIfPresent(new DetailsKey(userId, currentVersion(userId)));
+        if (cached != null) {
+            return cached;
+        }
+        UserEntity user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        int version = Objects.requireNonNullElse(user.getProfileVersion(), 0);
+        versions.put(userId, version);
+        CustomUserDetails loaded = CustomUserDetails.builder()
+                .userId(userId)
+                .name(user.getName())
+                .role(user.getRole())
+                .profileVersion(version)
+                .build();
+        // 읽어 온 행의 버전으로 저장해야 그 사이 올라간 버전이 옛 값으로 덮이지 않는다
+        details.put(new DetailsKey(userId, version), loaded);
+        return loaded;
+    }
+
+    // 이름, 역할, 프로필 사진이 바뀔 때 호출, 캐시는 커밋 뒤에 비워야 옛 버전이 다시 캐시되지 않는다
+    @Transactional
+    public void bump(Integer userId) {
+        userRepository.incrementProfileVersion(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.invalidate(userId);
+            }
+        });
+    }
+
+    private Integer currentVersion(Integer userId) {
+        return versions.get(userId, id -> Objects.requireNonNullElse(userRepository.findProfileVersionById(id), 0));
+    }
+
+    private record DetailsKey(Integer userId, Integer version) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.travelbuddy.users.service;
 
-import com.github.travelbuddy.common.service.S3Service;
+import com.github.travelbuddy.common.dto.UploadedImage;
+import com.github.travelbuddy.common.service.ImageUploadService;
 import com.github.travelbuddy.users.dto.SignupDto;
 import com.github.travelbuddy.users.dto.UpdatePasswordRequest;
 import com.github.travelbuddy.users.dto.UserResponse;
@@ -26,6 +27,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -34,8 +36,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final MessageService messageService;
-    private final S3Service s3Service;
+    private final ImageUploadService imageUploadService;
     private final JWTUtill jwtUtill;
+    private final ProfileVersionService profileVersionService;
 
     @Value("${profile.url}")
     private String defaultProfileUrl;
@@ -66,9 +69,14 @@ public class UserService {
         log.info("gender={}",gender);
 
         String pictureUrl = defaultProfileUrl;
+        String thumbnailUrl = null;
+        String placeholder = null;
 
         if(signupDto.getProfilePicture() != null){
-            pictureUrl = s3Service.uploadFile(signupDto.getProfilePicture());
+            UploadedImage uploaded = imageUploadService.uploadProfilePicture(signupDto.getProfilePicture());
+            pictureUrl = uploaded.getUrl();
+            thumbnailUrl = uploaded.getThumbnailUrl();
+            placeholder = uploaded.getPlaceholder();
         }
 
         UserEntity userEntity = UserEntity.builder()
@@ -80,6 +88,8 @@ public class UserService {
                 .gender(gender)
                 .createdAt(LocalDateTime.now())
                 .profilePictureUrl(pictureUrl)
+                .profileThumbnailUrl(thumbnailUrl)
+                .profilePlaceholder(placeholder)
                 .build();
 
         userRepository.save(userEntity);
@@ -96,6 +106,8 @@ public class UserService {
                 .residentNum(userEntity.getResidentNum())
                 .gender(userEntity.getGender())
                 .profilePictureUrl(userEntity.getProfilePictureUrl())
+                .profileThumbnailUrl(userEntity.profileThumbnailOrPicture())
+                .profilePlaceholder(userEntity.getProfilePlaceholder())
                 .build();
     }
 
@@ -104,15 +116,22 @@ public class UserService {
         UserEntity userEntity = userRepository.findById(userId)
                 .orElseThrow(()-> new RuntimeException("정보수정할 해당 ID: "+ userId +"를 찾을 수 없습니다."));
 
-        if(!userEntity.getProfilePictureUrl().equals(defaultProfileUrl)){
-            s3Service.deleteFile(userEntity.getProfilePictureUrl());
-        }
-        String pictureUrl = s3Service.uploadFile(profilePicture);
+        UploadedImage uploaded = imageUploadService.uploadProfilePicture(profilePicture);
+        String pictureUrl = uploaded.getUrl();
 
         UserEntity updateUser = userEntity.toBuilder()
                 .profilePictureUrl(pictureUrl)
+                .profileThumbnailUrl(uploaded.getThumbnailUrl())
+                .profilePlaceholder(uploaded.getPlaceholder())
                 .build();
         userRepository.save(updateUser);
+        profileVersionService.bump(userId);
+
+        // 같은 사진을 다른 곳에서도 쓰고 있으면 참조 수만 내려가고 파일은 남는다
+        if(!userEntity.getProfilePictureUrl().equals(defaultProfileUrl)){
+            imageUploadService.releaseAll(List.of(new UploadedImage(userEntity.getProfilePictureUrl(),
+                    userEntity.getProfileThumbnailUrl(), null, userEntity.getProfilePlaceholder())));
+        }
 
         return ResponseEntity.ok(pictureUrl);
     }
@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
 @Builder
@@ -25,4 +27,13 @@ public class UsersInTravelEntity {
     @ManyToOne
     @JoinColumn(name = "trip_id", nullable = false)
     private TripEntity trip;
+
+    // 이 컬럼이 생기기 전의 참여는 null
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.travelbuddy.usersInTravel.service;
 
+import com.github.travelbuddy.board.event.BoardChangedEvent;
 import com.github.travelbuddy.trip.entity.TripEntity;
 import com.github.travelbuddy.trip.repository.TripRepository;
 import com.github.travelbuddy.users.dto.CustomUserDetails;
@@ -9,12 +10,14 @@ import com.github.travelbuddy.usersInTravel.entity.UsersInTravelEntity;
 import com.github.travelbuddy.usersInTravel.repository.UsersInTravelRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Service
@@ -24,6 +27,7 @@ public class UsersInTravelService {
     private final UsersInTravelRepository usersInTravelRepository;
     private final UserRepository userRepository;
     private final TripRepository tripRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void attendTrip(CustomUserDetails userDetails , Integer tripId) {
@@ -60,6 +64,7 @@ public class UsersInTravelService {
 
         trip.setParticipantCount(trip.getParticipantCount() + 1);
         tripRepository.save(trip);
+        eventPublisher.publishEvent(new BoardChangedEvent(trip.getBoard().getId(), BoardChangedEvent.Type.PARTICIPANT_JOINED));
     }
 
     private int calculateAge(String residentNum){
@@ -79,7 +84,8 @@ public class UsersInTravelService {
     @Transactional
     public void cancelTrip(CustomUserDetails userDetails, Integer tripId) {
         Integer userId = userDetails.getUserId();
-        UserEntity user = userRepository.findById(userId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"유저 찾을 수 없음"));
+        // 조회 조건에 id 만 쓰이므로 사용자 행은 읽지 않는다
+        UserEntity user = userRepository.getReferenceById(userId);
         TripEntity trip = tripRepository.findById(tripId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"여행 찾을 수 없음"));
 
         UsersInTravelEntity usersInTravel = usersInTravelRepository.findByUserAndTrip(user, trip)
@@ -89,11 +95,14 @@ public class UsersInTravelService {
 
         trip.setParticipantCount(trip.getParticipantCount() - 1);
         tripRepository.save(trip);
+        // 시각이 없는 이전 참여는 게시물 작성 시각에 한 것으로 본다
+        LocalDateTime joinedAt = usersInTravel.getCreatedAt() != null ? usersInTravel.getCreatedAt() : trip.getBoard().getCreatedAt();
+        eventPublisher.publishEvent(new BoardChangedEvent(trip.getBoard().getId(), BoardChangedEvent.Type.PARTICIPANT_LEFT, joinedAt));
     }
 
     public Boolean participantTrip(CustomUserDetails userDetails, Integer tripId) {
         Integer userId = userDetails.getUserId();
-        UserEntity user = userRepository.findById(userId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"유저 찾을 수 없음"));
+        UserEntity user = userRepository.getReferenceById(userId);
         TripEntity trip = tripRepository.findById(tripId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"여행 찾을 수 없음"));
 
         return usersInTravelRepository.findByUserAndTrip(user, trip).isPresent();
@@ -0,0 +1,81 @@
+package com.github.travelbuddy.board.dto;
+
+import com.github.travelbuddy.board.enums.BoardSortType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardCursorTest {
+
+    @Test
+    void createdAtRoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+        BoardCursor decoded = BoardCursor.decode(BoardCursor.of(BoardSortType.CREATED_AT, createdAt, 42).encode(),
+                BoardSortType.CREATED_AT);
+
+        assertThat(decoded.getSortType()).isEqualTo(BoardSortType.CREATED_AT);
+        assertThat(decoded.getSortValue()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42);
+    }
+
+    @Test
+    void likesRoundTrip() {
+        BoardCursor decoded = BoardCursor.decode(BoardCursor.of(BoardSortType.LIKES, 17L, 3).encode(), BoardSortType.LIKES);
+
+        assertThat(decoded.getSortValue()).isEqualTo(17L);
+        assertThat(decoded.getId()).isEqualTo(3);
+    }
+
+    @Test
+    void startAtRoundTrip() {
+        Date startAt = new Date(1_700_000_000_000L);
+
+        BoardCursor decoded = BoardCursor.decode(BoardCursor.of(BoardSortType.START_AT, startAt, 7).encode(),
+                BoardSortType.START_AT);
+
+        assertThat(decoded.getSortValue()).isEqualTo(startAt);
+        assertThat(decoded.getId()).isEqualTo(7);
+    }
+
+    @Test
+    void nullStartAtRoundTrip() {
+        BoardCursor decoded = BoardCursor.decode(BoardCursor.of(BoardSortType.START_AT, null, 9).encode(),
+                BoardSortType.START_AT);
+
+        assertThat(decoded.getSortValue()).isNull();
+        assertThat(decoded.getId()).isEqualTo(9);
+    }
+
+    @Test
+    void nullKeyIsRejectedForNonNullableSort() {
+        String cursor = BoardCursor.of(BoardSortType.CREATED_AT, null, 9).encode();
+
+        assertBadRequest(() -> BoardCursor.decode(cursor, BoardSortType.CREATED_AT));
+    }
+
+    @Test
+    void sortTypeMismatchIsRejected() {
+        String cursor = BoardCursor.of(BoardSortType.LIKES, 5L, 1).encode();
+
+        assertBadRequest(() -> BoardCursor.decode(cursor, BoardSortType.CREATED_AT));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertBadRequest(() -> BoardCursor.decode("not a cursor", BoardSortType.CREATED_AT));
+        assertBadRequest(() -> BoardCursor.decode("TElLRVN8NQ", BoardSortType.LIKES));
+    }
+
+    private void assertBadRequest(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.travelbuddy.board.period;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreapTest {
+
+    @Test
+    void collectsOnlyOverlappingIntervals() {
+        IntervalTreap treap = new IntervalTreap();
+        treap.insert(1, 10, 20);
+        treap.insert(2, 15, 25);
+        treap.insert(3, 30, 40);
+        treap.insert(4, 0, 100);
+
+        assertThat(overlapping(treap, 21, 29)).containsExactlyInAnyOrder(2, 4);
+        assertThat(overlapping(treap, 41, 50)).containsExactly(4);
+        assertThat(overlapping(treap, -10, -1)).isEmpty();
+    }
+
+    @Test
+    void touchingEndpointsOverlap() {
+        IntervalTreap treap = new IntervalTreap();
+        treap.insert(1, 10, 20);
+
+        assertThat(overlapping(treap, 20, 30)).containsExactly(1);
+        assertThat(overlapping(treap, 0, 10)).containsExactly(1);
+        assertThat(overlapping(treap, 21, 30)).isEmpty();
+    }
+
+    @Test
+    void removeDropsOnlyTheMatchingInterval() {
+        IntervalTreap treap = new IntervalTreap();
+        treap.insert(1, 10, 20);
+        treap.insert(2, 10, 20);
+
+        treap.remove(1, 10);
+        treap.remove(3, 10);
+
+        assertThat(treap.size()).isEqualTo(1);
+        assertThat(overlapping(treap, 0, 100)).containsExactly(2);
+    }
+
+    @Test
+    void stopsCollectingAfterLimitIsExceeded() {
+        IntervalTreap treap = new IntervalTreap();
+        for (int id = 0; id < 50; id++) {
+            treap.insert(id, id, id + 10);
+        }
+
+        List<Integer> result = new ArrayList<>();
+        treap.collectOverlapping(0, 100, result, 5);
+
+        assertThat(result).hasSize(6);
+    }
+
+    @Test
+    void matchesBruteForceAfterRandomInsertsAndRemoves() {
+        Random random = new Random(42);
+        IntervalTreap treap = new IntervalTreap();
+        Map<Integer, long[]> intervals = new HashMap<>();
+        for (int id = 0; id < 2000; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + random.nextInt(500);
+            treap.insert(id, start, end);
+            intervals.put(id, new long[]{start, end});
+        }
+        for (int id = 0; id < 2000; id += 3) {
+            treap.remove(id, intervals.remove(id)[0]);
+        }
+        assertThat(treap.size()).isEqualTo(intervals.size());
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextInt(10_500);
+            long to = from + random.nextInt(1_000);
+            List<Integer> expected = intervals.entrySet().stream()
+                    .filter(entry -> entry.getValue()[0] <= to && entry.getValue()[1] >= from)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            assertThat(overlapping(treap, from, to)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private List<Integer> overlapping(IntervalTreap treap, long from, long to) {
+        List<Integer> result = new ArrayList<>();
+        treap.collectOverlapping(from, to, result, Integer.MAX_VALUE);
+        return result;
+    }
+}
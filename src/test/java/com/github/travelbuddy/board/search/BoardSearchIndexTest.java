@@ -0,0 +1,85 @@
+package com.github.travelbuddy.board.search;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardSearchIndexTest {
+    private final BoardSearchIndex index = new BoardSearchIndex();
+
+    @Test
+    void titleMatchOutranksContentMatch() {
+        index(1, BoardEntity.Category.REVIEW, "일정 공유", "부산 바다를 보러 간 이야기");
+        index(2, BoardEntity.Category.REVIEW, "부산 바다 후기", "일정 공유");
+
+        assertThat(search("부산 바다", null).boardIds()).containsExactly(2, 1);
+    }
+
+    @Test
+    void rareTermOutweighsCommonTerm() {
+        index(1, BoardEntity.Category.REVIEW, "여행 후기", "여행 여행");
+        index(2, BoardEntity.Category.REVIEW, "여행 후기", "우도");
+        index(3, BoardEntity.Category.REVIEW, "여행 후기", "여행");
+
+        assertThat(search("여행 우도", null).boardIds().get(0)).isEqualTo(2);
+    }
+
+    @Test
+    void filtersByCategory() {
+        index(1, BoardEntity.Category.REVIEW, "제주 여행", "");
+        index(2, BoardEntity.Category.COMPANION, "제주 동행", "");
+
+        BoardSearchIndex.SearchResult result = search("제주", BoardEntity.Category.COMPANION);
+
+        assertThat(result.boardIds()).containsExactly(2);
+        assertThat(result.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        for (int id = 1; id <= 5; id++) {
+            index(id, BoardEntity.Category.GUIDE, "서울 ".repeat(6 - id) + "안내", "");
+        }
+
+        BoardSearchIndex.SearchResult firstPage = index.search("서울", null, 0, 2);
+        BoardSearchIndex.SearchResult secondPage = index.search("서울", null, 2, 2);
+        BoardSearchIndex.SearchResult pastEnd = index.search("서울", null, 10, 2);
+
+        assertThat(firstPage.boardIds()).containsExactly(1, 2);
+        assertThat(secondPage.boardIds()).containsExactly(3, 4);
+        assertThat(pastEnd.boardIds()).isEmpty();
+        assertThat(firstPage.totalHits()).isEqualTo(5);
+    }
+
+    @Test
+    void reindexAndRemoveReplacePostings() {
+        index(1, BoardEntity.Category.REVIEW, "강릉 커피", "");
+        index(1, BoardEntity.Category.REVIEW, "속초 바다", "");
+
+        assertThat(search("강릉", null).boardIds()).isEmpty();
+        assertThat(search("속초", null).boardIds()).containsExactly(1);
+
+        index.remove(1);
+
+        assertThat(search("속초", null).boardIds()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void blankQueryReturnsNothing() {
+        index(1, BoardEntity.Category.REVIEW, "여행", "");
+
+        assertThat(search("  ", null).boardIds()).isEmpty();
+    }
+
+    private void index(int id, BoardEntity.Category category, String title, String content) {
+        index.index(new BoardSearchSource(id, category, title, null, content, null), List.of());
+    }
+
+    private BoardSearchIndex.SearchResult search(String query, BoardEntity.Category category) {
+        return index.search(query, category, 0, 10);
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.travelbuddy.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardTokenizerTest {
+
+    @Test
+    void splitsHangulIntoSyllableBigrams() {
+        assertThat(BoardTokenizer.tokenize("제주도 여행")).containsExactly("제주", "주도", "여행");
+    }
+
+    @Test
+    void keepsSingleHangulSyllable() {
+        assertThat(BoardTokenizer.tokenize("섬 바다")).containsExactly("섬", "바다");
+    }
+
+    @Test
+    void splitsMixedScriptsAtBoundary() {
+        assertThat(BoardTokenizer.tokenize("서울tour, Jeju2024!")).containsExactly("서울", "tour", "jeju2024");
+    }
+
+    @Test
+    void normalizesFullWidthAndCase() {
+        assertThat(BoardTokenizer.tokenize("ＨＥＬＬＯ Ｗｏｒｌｄ")).containsExactly("hello", "world");
+    }
+
+    @Test
+    void returnsNoTokensForBlankInput() {
+        assertThat(BoardTokenizer.tokenize(null)).isEmpty();
+        assertThat(BoardTokenizer.tokenize("  ")).isEmpty();
+        assertThat(BoardTokenizer.tokenize("!?")).isEmpty();
+    }
+}
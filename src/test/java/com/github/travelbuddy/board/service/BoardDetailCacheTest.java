@@ -0,0 +1,70 @@
+package com.github.travelbuddy.board.service;
+
+import com.github.travelbuddy.board.dto.BoardDetailDto;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardDetailCacheTest {
+    private final BoardDetailCache cache = new BoardDetailCache(new SimpleMeterRegistry(), 1 << 20, Duration.ofMinutes(10));
+
+    @Test
+    void cachesLoadedDetail() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> detail(1, loads));
+        cache.get(1, () -> detail(1, loads));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidatingAnotherBoardDuringLoadStillCaches() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(2, () -> {
+            cache.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.LIKE_ADDED));
+            return detail(2, loads);
+        });
+        cache.get(2, () -> detail(2, loads));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidatingSameBoardDuringLoadSkipsCaching() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> {
+            cache.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.UPDATED));
+            return detail(1, loads);
+        });
+        cache.get(1, () -> detail(1, loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void commentEventsDoNotInvalidate() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1, () -> detail(1, loads));
+        cache.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.COMMENT_ADDED));
+        cache.get(1, () -> detail(1, loads));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private BoardDetailDto detail(int boardId, AtomicInteger loads) {
+        loads.incrementAndGet();
+        BoardDetailDto.BoardDto board = new BoardDetailDto.BoardDto();
+        board.setId(boardId);
+        board.setTitle("게시물 " + boardId);
+        return new BoardDetailDto(board, null, null);
+    }
+}
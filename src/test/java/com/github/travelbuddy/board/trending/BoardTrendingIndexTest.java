@@ -0,0 +1,83 @@
+package com.github.travelbuddy.board.trending;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardTrendingIndexTest {
+    private static final Duration HALF_LIFE = Duration.ofHours(24);
+
+    private final BoardTrendingIndex index = new BoardTrendingIndex(HALF_LIFE, 3);
+    private final long now = System.currentTimeMillis();
+
+    @Test
+    void returnsTopKByScore() {
+        for (int id = 1; id <= 5; id++) {
+            index.add(id, BoardEntity.Category.REVIEW, id, now);
+        }
+
+        assertThat(index.top(null)).containsExactly(5, 4, 3);
+        assertThat(index.top(BoardEntity.Category.REVIEW)).containsExactly(5, 4, 3);
+        assertThat(index.top(BoardEntity.Category.GUIDE)).isEmpty();
+    }
+
+    @Test
+    void keepsCategoriesApart() {
+        index.add(1, BoardEntity.Category.REVIEW, 5, now);
+        index.add(2, BoardEntity.Category.GUIDE, 3, now);
+        index.add(3, BoardEntity.Category.REVIEW, 1, now);
+
+        assertThat(index.top(BoardEntity.Category.REVIEW)).containsExactly(1, 3);
+        assertThat(index.top(BoardEntity.Category.GUIDE)).containsExactly(2);
+        assertThat(index.top(null)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void olderEventsDecayByHalfLife() {
+        long oneHalfLifeAgo = now - HALF_LIFE.toMillis();
+        index.add(1, BoardEntity.Category.REVIEW, 1, now);
+        index.add(2, BoardEntity.Category.REVIEW, 2.2, oneHalfLifeAgo);
+        index.add(3, BoardEntity.Category.REVIEW, 1.8, oneHalfLifeAgo);
+
+        assertThat(index.top(null)).containsExactly(2, 1, 3);
+    }
+
+    @Test
+    void decreaseLetsNextCandidateIntoTop() {
+        for (int id = 1; id <= 4; id++) {
+            index.add(id, BoardEntity.Category.COMPANION, id, now);
+        }
+
+        index.add(4, BoardEntity.Category.COMPANION, -4, now);
+
+        assertThat(index.top(BoardEntity.Category.COMPANION)).containsExactly(3, 2, 1);
+        assertThat(index.top(null)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void removeLetsNextCandidateIntoTop() {
+        for (int id = 1; id <= 4; id++) {
+            index.add(id, BoardEntity.Category.COMPANION, id, now);
+        }
+
+        index.remove(4);
+
+        assertThat(index.contains(4)).isFalse();
+        assertThat(index.top(null)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    void registerMovesScoreToNewCategory() {
+        index.add(1, BoardEntity.Category.REVIEW, 2, now);
+        index.register(2, BoardEntity.Category.REVIEW);
+
+        index.register(1, BoardEntity.Category.GUIDE);
+
+        assertThat(index.top(BoardEntity.Category.REVIEW)).containsExactly(2);
+        assertThat(index.top(BoardEntity.Category.GUIDE)).containsExactly(1);
+        assertThat(index.top(null)).containsExactly(1, 2);
+    }
+}
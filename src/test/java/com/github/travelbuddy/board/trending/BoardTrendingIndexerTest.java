@@ -0,0 +1,66 @@
+package com.github.travelbuddy.board.trending;
+
+import com.github.travelbuddy.board.entity.BoardEntity;
+import com.github.travelbuddy.board.event.BoardChangedEvent;
+import com.github.travelbuddy.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BoardTrendingIndexerTest {
+    private final BoardTrendingIndex index = new BoardTrendingIndex(Duration.ofHours(24), 10);
+    private final BoardTrendingIndexer indexer = new BoardTrendingIndexer(mock(BoardRepository.class), index);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(indexer, "likeWeight", 1.0);
+        ReflectionTestUtils.setField(indexer, "commentWeight", 2.0);
+        ReflectionTestUtils.setField(indexer, "participantWeight", 3.0);
+    }
+
+    @Test
+    void removingOldLikeSubtractsOnlyItsDecayedContribution() {
+        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
+        index.add(1, BoardEntity.Category.REVIEW, 1.0, millis(threeDaysAgo));
+        index.add(1, BoardEntity.Category.REVIEW, 1.0, System.currentTimeMillis());
+        index.add(2, BoardEntity.Category.REVIEW, 0.9, System.currentTimeMillis());
+
+        indexer.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.LIKE_REMOVED, threeDaysAgo));
+
+        // 3일 전 좋아요는 지금 1/8 만 남아 있으므로 그만큼만 빠지고, 오늘 받은 좋아요 점수는 그대로다
+        assertThat(index.top(null)).containsExactly(1, 2);
+    }
+
+    @Test
+    void removalWithoutOriginalTimeLeavesScore() {
+        index.add(1, BoardEntity.Category.REVIEW, 1.0, System.currentTimeMillis());
+        index.add(2, BoardEntity.Category.REVIEW, 0.9, System.currentTimeMillis());
+
+        indexer.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.COMMENT_REMOVED));
+
+        assertThat(index.top(null)).containsExactly(1, 2);
+    }
+
+    @Test
+    void removingRecentParticipationSubtractsFullWeight() {
+        LocalDateTime now = LocalDateTime.now();
+        index.add(1, BoardEntity.Category.COMPANION, 3.0, millis(now));
+        index.add(1, BoardEntity.Category.COMPANION, 1.0, millis(now));
+        index.add(2, BoardEntity.Category.COMPANION, 1.5, millis(now));
+
+        indexer.onBoardChanged(new BoardChangedEvent(1, BoardChangedEvent.Type.PARTICIPANT_LEFT, now));
+
+        assertThat(index.top(null)).containsExactly(2, 1);
+    }
+
+    private long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.travelbuddy.chat.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageCursorTest {
+
+    @Test
+    void roundTripsSentAtAndId() {
+        Instant sentAt = Instant.ofEpochMilli(1_700_000_000_123L);
+
+        ChatMessageCursor decoded = ChatMessageCursor.decode(ChatMessageCursor.of(sentAt, "65f1c0ffee0000000000abcd").encode());
+
+        assertThat(decoded.getSentAt()).isEqualTo(sentAt);
+        assertThat(decoded.getId()).isEqualTo("65f1c0ffee0000000000abcd");
+    }
+
+    @Test
+    void keepsMillisecondPrecisionOnly() {
+        Instant sentAt = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+
+        ChatMessageCursor decoded = ChatMessageCursor.decode(ChatMessageCursor.of(sentAt, "id").encode());
+
+        assertThat(decoded.getSentAt()).isEqualTo(Instant.ofEpochMilli(1_700_000_000_123L));
+    }
+
+    @Test
+    void encodesAsUrlSafeText() {
+        String cursor = ChatMessageCursor.of(Instant.now(), "65f1c0ffee0000000000abcd").encode();
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertBadRequest("not a cursor");
+        assertBadRequest("MTIz");
+        assertBadRequest("YWJjfGlk");
+    }
+
+    private void assertBadRequest(String cursor) {
+        assertThatThrownBy(() -> ChatMessageCursor.decode(cursor))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}
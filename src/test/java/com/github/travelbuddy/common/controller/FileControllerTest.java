@@ -0,0 +1,52 @@
+package com.github.travelbuddy.common.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileControllerTest {
+    private static final long LENGTH = 1000;
+
+    @Test
+    void parsesClosedRange() {
+        assertThat(FileController.parseRange("bytes=0-99", LENGTH)).containsExactly(0, 99);
+    }
+
+    @Test
+    void parsesOpenEndedRange() {
+        assertThat(FileController.parseRange("bytes=500-", LENGTH)).containsExactly(500, 999);
+    }
+
+    @Test
+    void parsesSuffixRange() {
+        assertThat(FileController.parseRange("bytes=-200", LENGTH)).containsExactly(800, 999);
+        assertThat(FileController.parseRange("bytes=-5000", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void clampsEndToLastByte() {
+        assertThat(FileController.parseRange("bytes=900-5000", LENGTH)).containsExactly(900, 999);
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() {
+        assertThat(FileController.parseRange("bytes=1000-", LENGTH)).isNull();
+        assertThat(FileController.parseRange("bytes=-0", LENGTH)).isNull();
+        assertThat(FileController.parseRange("bytes=-10", 0)).isNull();
+        assertThat(FileController.parseRange("bytes=0-", 0)).isNull();
+    }
+
+    @Test
+    void fallsBackToWholeFileForUnsupportedOrMalformedRanges() {
+        assertThat(FileController.parseRange("bytes=0-1,5-6", LENGTH)).containsExactly(0, 999);
+        assertThat(FileController.parseRange("items=0-1", LENGTH)).containsExactly(0, 999);
+        assertThat(FileController.parseRange("bytes=5", LENGTH)).containsExactly(0, 999);
+        assertThat(FileController.parseRange("bytes=abc-def", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void ignoresRangeWithLastBeforeFirst() {
+        assertThat(FileController.parseRange("bytes=50-10", LENGTH)).containsExactly(0, 999);
+        assertThat(FileController.parseRange("bytes=2000-1500", LENGTH)).containsExactly(0, 999);
+    }
+}
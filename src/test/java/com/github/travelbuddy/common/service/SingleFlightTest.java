@@ -0,0 +1,128 @@
+package com.github.travelbuddy.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("board", 1, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        awaitInFlight();
+        Future<String> follower = executor.submit(() -> singleFlight.execute("board", 1, () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitCollapsed();
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("singleflight.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void waitersReceiveTheOriginalException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ResponseStatusException failure = new ResponseStatusException(HttpStatus.NOT_FOUND, "없음");
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("board", 1, () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitInFlight();
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute("board", 1, () -> "other"), executor);
+        awaitCollapsed();
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    void completedFlightIsNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("board", 1, loads::incrementAndGet);
+        singleFlight.execute("board", 1, loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedFlightIsNotReused() {
+        assertThatThrownBy(() -> singleFlight.execute("board", 1, () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("board", 1, () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void differentKeysDoNotCollapse() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("board", new Object[]{1, "a"}, () -> {
+            await(release);
+            return "first";
+        }));
+        awaitInFlight();
+
+        assertThat(singleFlight.execute("board", new Object[]{1, "b"}, () -> "second")).isEqualTo("second");
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("singleflight.in-flight").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitCollapsed() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("singleflight.collapsed").counter() == null && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.travelbuddy.users.service;
+
+import com.github.travelbuddy.users.dto.CustomUserDetails;
+import com.github.travelbuddy.users.entity.UserEntity;
+import com.github.travelbuddy.users.enums.Role;
+import com.github.travelbuddy.users.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileVersionServiceTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ProfileVersionService service =
+            new ProfileVersionService(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @Test
+    void staleTokenLoadsUserOnlyOnce() {
+        when(userRepository.findProfileVersionById(1)).thenReturn(2);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user(2, "after")));
+
+        assertThat(service.isCurrent(1, 1)).isFalse();
+        CustomUserDetails first = service.loadUserDetails(1);
+        CustomUserDetails second = service.loadUserDetails(1);
+
+        assertThat(first.getName()).isEqualTo("after");
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(1);
+    }
+
+    @Test
+    void newVersionReloadsUser() {
+        when(userRepository.findProfileVersionById(1)).thenReturn(2, 3);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user(2, "before")), Optional.of(user(3, "after")));
+
+        service.loadUserDetails(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.bump(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.loadUserDetails(1).getName()).isEqualTo("after");
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        when(userRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThat(service.loadUserDetails(1)).isNull();
+        assertThat(service.loadUserDetails(1)).isNull();
+        verify(userRepository, times(2)).findById(1);
+    }
+
+    private static UserEntity user(int version, String name) {
+        return UserEntity.builder()
+                .id(1)
+                .name(name)
+                .role(Role.USER)
+                .profileVersion(version)
+                .build();
+    }
+}